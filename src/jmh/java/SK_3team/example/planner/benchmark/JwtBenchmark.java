@@ -0,0 +1,43 @@
+package SK_3team.example.planner.benchmark;
+
+import SK_3team.example.planner.jwt.JWTClaims;
+import SK_3team.example.planner.jwt.JWTUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// JWTUtil 토큰 발급/파싱/검증
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    static final String SECRET = "A7dk@Z!pP9rXqLm3#sWvTjE2bNcY$uKd";
+
+    private JWTUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET);
+        token = jwtUtil.createJwt("bench-user", "ROLE_USER", 1L, 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public String createJwt() {
+        return jwtUtil.createJwt("bench-user", "ROLE_USER", 1L, 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public JWTClaims parse() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+}
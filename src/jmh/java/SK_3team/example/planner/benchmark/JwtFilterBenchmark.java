@@ -0,0 +1,71 @@
+package SK_3team.example.planner.benchmark;
+
+import SK_3team.example.planner.jwt.AuthMetrics;
+import SK_3team.example.planner.jwt.JWTFilter;
+import SK_3team.example.planner.jwt.JWTUtil;
+import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.redis.RevocationEpochs;
+import SK_3team.example.planner.redis.SessionCache;
+import SK_3team.example.planner.redis.SessionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// JWTFilter 요청 한 건 전체 (Redis 는 mock)
+// sessionCache=hit: 로컬 세션 캐시 적중 / miss: 매번 토큰 파싱 + RedisUtil.validateSession
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({"hit", "miss"})
+    public String sessionCache;
+
+    private JWTFilter filter;
+    private String authorization;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        JWTUtil jwtUtil = new JWTUtil(JwtBenchmark.SECRET);
+        RedisUtil redisUtil = mock(RedisUtil.class);
+        when(redisUtil.validateSession(anyString(), anyString())).thenReturn(SessionStatus.VALID);
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+
+        SessionCache cache = "hit".equals(sessionCache)
+                ? new SessionCache(redisTemplate, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(10))
+                : mock(SessionCache.class); // get() 이 항상 null
+        RevocationEpochs revocationEpochs = new RevocationEpochs(redisUtil, redisTemplate, cache, new SimpleMeterRegistry(),
+                100_000, Duration.ofMinutes(10), Duration.ofHours(10));
+
+        filter = new JWTFilter(jwtUtil, redisUtil, cache, revocationEpochs, new AuthMetrics(new SimpleMeterRegistry()));
+        authorization = "Bearer " + jwtUtil.createJwt("bench-user", "ROLE_USER", 1L, 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/plans/get_plans");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,70 @@
+package SK_3team.example.planner.benchmark;
+
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.export.PlanImageRenderer;
+import SK_3team.example.planner.service.PlanExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// PDF/JPG/PNG 렌더링 (AI 대화 길이별), 출력은 버림
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlanExportBenchmark {
+
+    // AI 대화 글자 수
+    @Param({"1000", "20000", "200000"})
+    public int transcriptChars;
+
+    private PlanExportService planExportService;
+    private PlanExportDto plan;
+
+    @Setup
+    public void setUp() {
+        PlanImageRenderer renderer = new PlanImageRenderer(new DefaultResourceLoader(),
+                "", 800, 16000, 0.85f, 4);
+        planExportService = new PlanExportService(renderer, new SimpleMeterRegistry());
+        plan = new PlanExportDto(1L, null, 1L, "제주도 3박 4일",
+                LocalDateTime.of(2025, 7, 1, 9, 0), LocalDateTime.of(2025, 7, 4, 18, 0),
+                transcript(transcriptChars), 0);
+    }
+
+    @Benchmark
+    public void pdf() throws IOException {
+        planExportService.writePdf(plan, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void jpg() throws IOException {
+        planExportService.writeJpg(plan, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void png() throws IOException {
+        planExportService.writePng(plan, OutputStream.nullOutputStream());
+    }
+
+    // 사용자/AI 가 번갈아 말하는 형태의 대화 (한글 + 영문 혼합)
+    static String transcript(int chars) {
+        String[] turns = {
+                "user: 7월 초에 제주도 3박 4일 일정 추천해줘. 렌터카 이용할 예정이야.",
+                "ai: 첫째 날은 공항 근처 용두암과 동문시장을 둘러보고, 저녁에는 흑돼지 거리에서 식사하는 일정을 추천드립니다. Day 1 focuses on the north coast.",
+                "user: 둘째 날은 바다 보면서 걷고 싶어.",
+                "ai: 둘째 날은 협재 해수욕장과 한림공원을 방문하고, 오후에는 올레길 일부 구간을 걸어보세요. Sunset at Sinchang windmill coast is recommended."
+        };
+        StringBuilder builder = new StringBuilder(chars + 200);
+        for (int i = 0; builder.length() < chars; i++) {
+            builder.append(turns[i % turns.length]).append('\n');
+        }
+        return builder.substring(0, chars);
+    }
+}
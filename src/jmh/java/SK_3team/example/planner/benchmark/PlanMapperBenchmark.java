@@ -0,0 +1,44 @@
+package SK_3team.example.planner.benchmark;
+
+import SK_3team.example.planner.dto.PlanResponseDto;
+import SK_3team.example.planner.dto.mapper.PlanMapper;
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 목록 조회 응답 변환 (PlanSummary -> PlanResponseDto)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlanMapperBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private List<PlanSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = base.plusDays(i);
+            summaries.add(new PlanSummary((long) i, "일정 " + i, start, start.plusHours(8), base, null));
+        }
+    }
+
+    @Benchmark
+    public List<PlanResponseDto> fromSummaries() {
+        return summaries.stream()
+                .map(PlanMapper::fromSummary)
+                .collect(Collectors.toList());
+    }
+}
@@ -2,8 +2,10 @@ package SK_3team.example.planner;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class PlannerApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,19 @@
+package SK_3team.example.planner.config;
+
+import SK_3team.example.planner.metrics.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 애플리케이션 지표 설정
+// PlanService 메서드별 시간(@Timed)은 management.observations.annotations.enabled 로 등록되는 TimedAspect 가 기록
+@Configuration
+public class MetricsConfig {
+
+    // 요청당 쿼리 수 집계용 (QueryCountFilter)
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+}
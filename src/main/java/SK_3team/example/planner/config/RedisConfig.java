@@ -1,5 +1,8 @@
 package SK_3team.example.planner.config;
 
+import SK_3team.example.planner.outbox.ExportCacheEventSink;
+import SK_3team.example.planner.redis.RevocationEpochs;
+import SK_3team.example.planner.redis.SessionCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +10,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -33,4 +38,17 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // 로그아웃/강제 로그아웃, 일정 변경(내보내기 캐시) 시 다른 노드의 로컬 캐시 무효화 메시지 수신
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(SessionCache sessionCache,
+                                                                       RevocationEpochs revocationEpochs,
+                                                                       ExportCacheEventSink exportCacheEventSink) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(sessionCache, new ChannelTopic(SessionCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(revocationEpochs, new ChannelTopic(RevocationEpochs.REVOCATION_CHANNEL));
+        container.addMessageListener(exportCacheEventSink, new ChannelTopic(ExportCacheEventSink.EVICTION_CHANNEL));
+        return container;
+    }
+
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package SK_3team.example.planner.config;
 
+import SK_3team.example.planner.jwt.AuthMetrics;
 import SK_3team.example.planner.jwt.JWTFilter;
 import SK_3team.example.planner.jwt.JWTUtil;
 import SK_3team.example.planner.jwt.LoginFilter;
 import SK_3team.example.planner.jwt.LogoutFilter;
 import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.redis.RevocationEpochs;
+import SK_3team.example.planner.redis.SessionCache;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +35,9 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
     private final RedisUtil redisUtil;
+    private final SessionCache sessionCache;
+    private final RevocationEpochs revocationEpochs;
+    private final AuthMetrics authMetrics;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -50,21 +57,25 @@ public class SecurityConfig {
                 .formLogin(auth -> auth.disable())
                 .httpBasic(auth -> auth.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // StreamingResponseBody 완료 후의 async dispatch는 이미 인증된 요청
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/users/register", "/api/users/login").permitAll()
                         .requestMatchers("/plans/start").permitAll()
                         .requestMatchers("/plans/save").permitAll()
+                        .requestMatchers("/plans/chat").permitAll()
                         .requestMatchers("/plans/export/**").permitAll()
                         .requestMatchers("/plans/**").authenticated()
                         .requestMatchers("/spring/api/users/register", "/spring/api/users/login").permitAll()
                         .requestMatchers("/spring/plans/start").permitAll()
                         .requestMatchers("/spring/plans/save").permitAll()
+                        .requestMatchers("/spring/plans/chat").permitAll()
                         .requestMatchers("/spring/plans/export/**").permitAll()
                         .requestMatchers("/spring/plans/**").authenticated()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new LogoutFilter(jwtUtil, redisUtil), LoginFilter.class)
+                .addFilterBefore(new LogoutFilter(jwtUtil, redisUtil, sessionCache), LoginFilter.class)
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, redisUtil), UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new JWTFilter(jwtUtil, redisUtil), LoginFilter.class)
+                .addFilterBefore(new JWTFilter(jwtUtil, redisUtil, sessionCache, revocationEpochs, authMetrics), LoginFilter.class)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         return http.build();
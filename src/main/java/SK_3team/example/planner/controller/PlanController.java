@@ -3,43 +3,74 @@ package SK_3team.example.planner.controller;
 import SK_3team.example.planner.dto.PlanResponseDto;
 import SK_3team.example.planner.dto.PlanDetailResponseDto;
 import SK_3team.example.planner.dto.PlanRequestDto;
-import SK_3team.example.planner.jwt.JWTUtil;
+import SK_3team.example.planner.dto.PlanPageResponseDto;
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.dto.ExportJobResponseDto;
+import SK_3team.example.planner.dto.PlanImportResponseDto;
+import SK_3team.example.planner.dto.PlanChatAppendRequestDto;
+import SK_3team.example.planner.dto.PlanChatWindowDto;
+import SK_3team.example.planner.dto.projection.PlanVersion;
+import SK_3team.example.planner.export.ExportCache;
+import SK_3team.example.planner.export.ExportFormat;
+import SK_3team.example.planner.export.ExportJob;
+import SK_3team.example.planner.export.ExportJobService;
+import SK_3team.example.planner.guest.GuestDraftStore;
+import SK_3team.example.planner.jwt.JWTClaims;
 import SK_3team.example.planner.service.PlanService;
+import SK_3team.example.planner.service.PlanExportService;
+import SK_3team.example.planner.service.PlanImportService;
+import SK_3team.example.planner.service.PlanChatService;
 import SK_3team.example.planner.exception.AuthException;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.io.IOException; // IOException 임포트 추가
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/plans")
 public class PlanController {
 
     private final PlanService planService;
-    private final JWTUtil jwtUtil;
-
-    public PlanController(PlanService planService, JWTUtil jwtUtil) {
+    private final PlanExportService planExportService;
+    private final ExportJobService exportJobService;
+    private final ExportCache exportCache;
+    private final PlanImportService planImportService;
+    private final PlanChatService planChatService;
+    private final GuestDraftStore guestDraftStore;
+    private final ObjectMapper objectMapper;
+
+    public PlanController(PlanService planService, PlanExportService planExportService,
+                          ExportJobService exportJobService, ExportCache exportCache,
+                          PlanImportService planImportService, PlanChatService planChatService,
+                          GuestDraftStore guestDraftStore, ObjectMapper objectMapper) {
         this.planService = planService;
-        this.jwtUtil = jwtUtil;
+        this.planExportService = planExportService;
+        this.exportJobService = exportJobService;
+        this.exportCache = exportCache;
+        this.planImportService = planImportService;
+        this.planChatService = planChatService;
+        this.guestDraftStore = guestDraftStore;
+        this.objectMapper = objectMapper;
     }
 
+    // JWTFilter에서 검증해 둔 클레임을 그대로 사용 (토큰 재파싱 없음)
     private Long getUserIdFromRequest(HttpServletRequest request) {
-        String authorizationHeader = request.getHeader("Authorization");
-        System.out.println("권한헤더 " + authorizationHeader);
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            String token = authorizationHeader.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                return jwtUtil.getUserIdFromToken(token);
-            }
-        }
-        return null;
+        JWTClaims claims = (JWTClaims) request.getAttribute(JWTClaims.ATTRIBUTE);
+        return claims != null ? claims.getUserId() : null;
     }
 
     // 특정 날짜의 일정 목록을 가져오는 엔드포인트 (회원 전용)
@@ -59,7 +90,25 @@ public class PlanController {
         return new ResponseEntity<>(plans, HttpStatus.OK);
     }
 
-    // 단일 일정 상세 정보를 가져오는 엔드포인트 (aiChatContent 포함)
+    // 기간(월/주) 일정을 날짜별로 묶어서 가져오는 엔드포인트 (회원 전용)
+    // 예) /plans/get_plans_by_range?from=2025-07-01&to=2025-07-31 -> {"2025-07-03": [...], ...}
+    @GetMapping("/get_plans_by_range")
+    public ResponseEntity<Map<LocalDate, List<PlanResponseDto>>> getPlansByRange(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request) {
+        Long userId = getUserIdFromRequest(request);
+        if (userId == null) {
+            throw new AuthException("로그인이 필요합니다. (회원 전용 기능)");
+        }
+        Map<LocalDate, List<PlanResponseDto>> plans = planService.getPlansByRangeForUser(userId, from, to);
+        if (plans.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(plans, HttpStatus.OK);
+    }
+
+    // 단일 일정 상세 정보를 가져오는 엔드포인트 (aiChatContent 포함, /plans/chat 으로 추가된 턴까지 합친 내용)
     @GetMapping("/get_detail_plans")
     public ResponseEntity<PlanDetailResponseDto> getPlanDetail(
             @RequestParam("plandetails") Long id,
@@ -89,12 +138,53 @@ public class PlanController {
         return new ResponseEntity<>(plans, HttpStatus.OK);
     }
 
+    // 커서 기반 페이지 조회 (회원 전용): 응답의 nextCursor를 다음 요청의 cursor로 전달
+    @GetMapping("/get_plans_page")
+    public ResponseEntity<PlanPageResponseDto> getPlansPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+        Long userId = getUserIdFromRequest(request);
+
+        if (userId == null) {
+            throw new AuthException("로그인이 필요합니다. (회원 전용 기능)");
+        }
+
+        return new ResponseEntity<>(planService.getPlansPageForUser(userId, cursor, size), HttpStatus.OK);
+    }
+
+    // 전체 일정 NDJSON 스트리밍 (회원 전용): DB에서 읽는 대로 한 줄씩 내려보냄
+    @GetMapping(value = "/get_plans_stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPlans(HttpServletRequest request) {
+        Long userId = getUserIdFromRequest(request);
+
+        if (userId == null) {
+            throw new AuthException("로그인이 필요합니다. (회원 전용 기능)");
+        }
+
+        StreamingResponseBody body = outputStream -> planService.streamAllPlansForUser(userId, plan -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(plan));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     // ** 추가: 임시 계획 시작 (게스트 키 발급) 엔드포인트 **
     @PostMapping("/start")
     public ResponseEntity<PlanResponseDto> startPlan() {
         // 이 엔드포인트는 게스트 키 발급만을 위한 것이므로,
         // 어떠한 HTTP 요청 객체나 인증 정보도 필요로 하지 않습니다.
-        PlanResponseDto newPlan = planService.startGuestPlan(); // PlanService에 새로운 메서드 호출
+        // deferred-persistence 모드면 Redis 초안만 만들고 첫 저장 때 MySQL 에 insert
+        PlanResponseDto newPlan = guestDraftStore.isEnabled()
+                ? planService.startGuestDraft()
+                : planService.startGuestPlan(); // PlanService에 새로운 메서드 호출
         return new ResponseEntity<>(newPlan, HttpStatus.CREATED);
     }
 
@@ -116,10 +206,11 @@ public class PlanController {
     // JPG/PDF 파일 저장 엔드포인트 (회원/게스트 공용)
     // planId (회원) 또는 guestKey (게스트) 둘 중 하나는 필수로 전달되어야 합니다.
     @GetMapping("/export/pdf")
-    public ResponseEntity<byte[]> exportPlanAsPdf(
+    public ResponseEntity<StreamingResponseBody> exportPlanAsPdf(
             HttpServletRequest request, // userId 추출용
+            WebRequest webRequest,      // If-None-Match 확인용
             @RequestParam(required = false) Long planId, // 회원 일정용
-            @RequestParam(required = false) String guestKey) throws IOException { // IOException 처리 추가
+            @RequestParam(required = false) String guestKey) {
 
         Long userId = getUserIdFromRequest(request); // JWT에서 userId 추출
 
@@ -131,22 +222,16 @@ public class PlanController {
         // userId가 있고 planId가 없는 경우 guestKey를 사용하는 시나리오도 허용.
         // PlanService의 findPlanForExport에서 복합적으로 처리.
 
-        byte[] pdfBytes = planService.generatePlanPdf(planId, guestKey, userId);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        String fileName = "plan_" + (planId != null ? planId : (guestKey != null ? guestKey.substring(0, 8) : "unknown")) + ".pdf"; // 파일명 유동적 생성
-        headers.setContentDispositionFormData("attachment", fileName);
-
-        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+        return exportPlan(ExportFormat.PDF, planId, guestKey, userId, webRequest);
     }
 
     // JPG 파일 저장 엔드포인트 (회원/게스트 공용)
     @GetMapping("/export/jpg")
-    public ResponseEntity<byte[]> exportPlanAsJpg(
+    public ResponseEntity<StreamingResponseBody> exportPlanAsJpg(
             HttpServletRequest request,
+            WebRequest webRequest,
             @RequestParam(required = false) Long planId,
-            @RequestParam(required = false) String guestKey) throws IOException { // IOException 처리 추가
+            @RequestParam(required = false) String guestKey) {
 
         Long userId = getUserIdFromRequest(request);
 
@@ -154,14 +239,158 @@ public class PlanController {
             throw new IllegalArgumentException("일정 ID 또는 게스트 키가 필요합니다.");
         }
 
-        byte[] jpgBytes = planService.generatePlanJpg(planId, guestKey, userId);
+        return exportPlan(ExportFormat.JPG, planId, guestKey, userId, webRequest);
+    }
+
+    // PNG 파일 저장 엔드포인트 (회원/게스트 공용, 글자가 많은 대화 내용은 JPG 보다 선명)
+    @GetMapping("/export/png")
+    public ResponseEntity<StreamingResponseBody> exportPlanAsPng(
+            HttpServletRequest request,
+            WebRequest webRequest,
+            @RequestParam(required = false) Long planId,
+            @RequestParam(required = false) String guestKey) {
+
+        Long userId = getUserIdFromRequest(request);
+
+        if (planId == null && (guestKey == null || guestKey.isEmpty())) {
+            throw new IllegalArgumentException("일정 ID 또는 게스트 키가 필요합니다.");
+        }
+
+        return exportPlan(ExportFormat.PNG, planId, guestKey, userId, webRequest);
+    }
+
+    // 여러 일정 한 번에 내보내기 (회원 전용): 기간(from, to) 또는 planIds 중 하나
+    // format=pdf: 일정마다 새 페이지인 PDF 하나 / format=zip: 일정별 파일(entryFormat)을 묶은 ZIP
+    // 예) /plans/export/batch?format=zip&entryFormat=jpg&from=2025-07-01&to=2025-07-31
+    @GetMapping("/export/batch")
+    public ResponseEntity<StreamingResponseBody> exportPlansBatch(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "pdf") String format,
+            @RequestParam(defaultValue = "pdf") String entryFormat,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Long> planIds) {
+
+        Long userId = getUserIdFromRequest(request);
+        if (userId == null) {
+            throw new AuthException("로그인이 필요합니다. (회원 전용 기능)");
+        }
+
+        // 응답을 쓰기 시작한 뒤에는 오류 코드를 돌려줄 수 없으므로 조건은 미리 확인
+        // (형식/조건 오류는 IllegalArgumentException -> GlobalExceptionHandler 에서 400)
+        boolean zip = "zip".equalsIgnoreCase(format);
+        if (!zip && !"pdf".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("지원하지 않는 일괄 내보내기 형식입니다: " + format);
+        }
+        ExportFormat zipEntryFormat = ExportFormat.from(entryFormat);
+
+        // 대상 id 를 먼저 읽고, 50개 윈도우마다 짧은 읽기 트랜잭션으로 스냅샷을 읽은 뒤 트랜잭션 밖에서 렌더링
+        // (렌더링 중에는 DB 커넥션/커서를 잡지 않음, 메모리는 윈도우 크기로 일정)
+        List<List<Long>> windows = planService.getExportWindows(userId, from, to, planIds);
+        PlanExportService.PlanExportSource source = consumer -> {
+            for (List<Long> window : windows) {
+                planService.getPlansForExport(userId, window).forEach(consumer);
+            }
+        };
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.IMAGE_JPEG);
-        String fileName = "plan_" + (planId != null ? planId : (guestKey != null ? guestKey.substring(0, 8) : "unknown")) + ".jpg";
+        String fileName = "plans" + (from != null ? "_" + from + "_" + to : "");
+        StreamingResponseBody body;
+        if (zip) {
+            headers.setContentType(MediaType.parseMediaType("application/zip"));
+            headers.setContentDispositionFormData("attachment", fileName + ".zip");
+            body = outputStream -> planExportService.writeBatchZip(source, zipEntryFormat, outputStream);
+        } else {
+            headers.setContentType(MediaType.APPLICATION_PDF);
+            headers.setContentDispositionFormData("attachment", fileName + ".pdf");
+            body = outputStream -> planExportService.writeBatchPdf(source, outputStream);
+        }
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    // 1) 권한 확인 + 버전만 조회 (plan_details 안 읽음), ETag 가 같으면 렌더링 없이 304
+    // 2) 캐시에 있으면 그대로 전송, 없으면 스냅샷 조회 후 렌더링하면서 캐시에 저장
+    // 렌더링은 조회 트랜잭션 밖에서, 파일 전체를 메모리에 만들지 않고 응답 스트림에 바로 씀
+    private ResponseEntity<StreamingResponseBody> exportPlan(ExportFormat format, Long planId, String guestKey,
+                                                             Long userId, WebRequest webRequest) {
+        PlanVersion version = planService.getPlanVersionForExport(planId, guestKey, userId);
+        if (version.id() == null) { // 저장 전 게스트 초안: 빈 일정이라 캐시/ETag 없이 바로 렌더링
+            PlanExportDto draft = planService.getPlanForExport(planId, guestKey, userId);
+            StreamingResponseBody body = outputStream -> planExportService.write(format, draft, outputStream);
+            return new ResponseEntity<>(body, exportHeaders(format, planId, guestKey), HttpStatus.OK);
+        }
+        ExportCache.Key key = new ExportCache.Key(version.id(), version.contentVersion(), format);
+        if (webRequest.checkNotModified(key.etag())) { // ETag 헤더도 여기서 설정됨
+            return null;
+        }
+
+        StreamingResponseBody body;
+        ExportCache.ArtifactWriter cached = exportCache.get(key);
+        if (cached != null) {
+            body = cached::writeTo;
+        } else {
+            PlanExportDto plan = planService.getPlanForExport(planId, guestKey, userId);
+            ExportCache.Key renderedKey = new ExportCache.Key(plan.getPlanId(), plan.getContentVersion(), format);
+            body = outputStream -> exportCache.renderAndStore(renderedKey,
+                    target -> planExportService.write(format, plan, target), outputStream);
+        }
+
+        return new ResponseEntity<>(body, exportHeaders(format, planId, guestKey), HttpStatus.OK);
+    }
+
+    private HttpHeaders exportHeaders(ExportFormat format, Long planId, String guestKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(format.getMediaType());
+        String fileName = "plan_" + (planId != null ? planId : guestKey.substring(0, Math.min(8, guestKey.length()))) + "." + format.getExtension(); // 파일명 유동적 생성
         headers.setContentDispositionFormData("attachment", fileName);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate()); // 매번 ETag 로 재검증
+        return headers;
+    }
 
-        return new ResponseEntity<>(jpgBytes, headers, HttpStatus.OK);
+    // 비동기 내보내기 작업 등록 (회원/게스트 공용): 202 + 작업 ID, 상태는 Location 으로 조회
+    // 예) POST /plans/export/jobs?format=pdf&planId=1
+    @PostMapping("/export/jobs")
+    public ResponseEntity<ExportJobResponseDto> submitExportJob(
+            HttpServletRequest request,
+            @RequestParam("format") String format,
+            @RequestParam(required = false) Long planId,
+            @RequestParam(required = false) String guestKey) {
+
+        Long userId = getUserIdFromRequest(request);
+
+        ExportJobResponseDto job = exportJobService.submit(ExportFormat.from(format), planId, guestKey, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/plans/export/jobs/" + job.getJobId())
+                .body(job);
+    }
+
+    // 내보내기 작업 상태 조회 (게스트는 등록할 때 사용한 guestKey 필요)
+    @GetMapping("/export/jobs/{jobId}")
+    public ResponseEntity<ExportJobResponseDto> getExportJob(
+            @PathVariable String jobId,
+            HttpServletRequest request,
+            @RequestParam(required = false) String guestKey) {
+
+        Long userId = getUserIdFromRequest(request);
+        return new ResponseEntity<>(exportJobService.getStatus(jobId, userId, guestKey), HttpStatus.OK);
+    }
+
+    // 완료된 내보내기 결과 다운로드 (디스크 파일을 그대로 스트리밍)
+    @GetMapping("/export/jobs/{jobId}/file")
+    public ResponseEntity<StreamingResponseBody> downloadExportJob(
+            @PathVariable String jobId,
+            HttpServletRequest request,
+            @RequestParam(required = false) String guestKey) {
+
+        Long userId = getUserIdFromRequest(request);
+        ExportJob job = exportJobService.getCompletedJob(jobId, userId, guestKey);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(job.getFormat().getMediaType());
+        headers.setContentDispositionFormData("attachment", job.getFileName());
+
+        StreamingResponseBody body = outputStream -> exportJobService.writeResult(job, outputStream);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     // 일정 수정 (로그인 회원만 가능) - 기존 PUT /plans/update/{id} 유지 (save와 역할 분리)
@@ -177,6 +406,47 @@ public class PlanController {
         return new ResponseEntity<>(updatedPlan, HttpStatus.OK);
     }
 
+    // AI 대화 턴 추가 (회원: planId, 게스트: guestKey), 새 턴만 보냄
+    // 예) POST /plans/chat?guestKey=... {"expectedSeq": 12, "turns": [{"role": "user", "content": "..."}, {"role": "ai", "content": "..."}]}
+    @PostMapping("/chat")
+    public ResponseEntity<PlanChatWindowDto> appendChatTurns(
+            @RequestParam(required = false) Long planId,
+            @RequestParam(required = false) String guestKey,
+            @RequestBody PlanChatAppendRequestDto requestDto,
+            HttpServletRequest request) {
+        Long userId = getUserIdFromRequest(request);
+        PlanChatWindowDto appended = planChatService.appendTurns(planId, guestKey, userId, requestDto);
+        return new ResponseEntity<>(appended, HttpStatus.OK);
+    }
+
+    // AI 대화 구간 조회: 기본은 최근 size 개, beforeSeq 로 이전 구간, afterSeq 로 이후 구간
+    @GetMapping("/chat")
+    public ResponseEntity<PlanChatWindowDto> getChatTurns(
+            @RequestParam(required = false) Long planId,
+            @RequestParam(required = false) String guestKey,
+            @RequestParam(required = false) Integer afterSeq,
+            @RequestParam(required = false) Integer beforeSeq,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+        Long userId = getUserIdFromRequest(request);
+        return new ResponseEntity<>(planChatService.getTurns(planId, guestKey, userId, afterSeq, beforeSeq, size), HttpStatus.OK);
+    }
+
+    // 일정 일괄 가져오기 (회원 전용)
+    // 본문: NDJSON(application/x-ndjson, 한 줄에 일정 하나) 또는 JSON 배열(application/json), 항목 형식은 /save 와 같음
+    // 본문 전체를 메모리에 올리지 않고 읽는 대로 청크 단위로 저장, 행별 실패 사유를 응답에 담음
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PlanImportResponseDto> importPlans(HttpServletRequest request) throws IOException {
+        Long userId = getUserIdFromRequest(request);
+
+        if (userId == null) {
+            throw new AuthException("로그인이 필요합니다. (회원 전용 기능)");
+        }
+
+        PlanImportResponseDto result = planImportService.importPlans(request.getInputStream(), userId);
+        return new ResponseEntity<>(result, HttpStatus.valueOf(result.getCode()));
+    }
+
     // 일정 삭제 (로그인 회원만 가능)
     @DeleteMapping("/delete/{id}")
     public ResponseEntity<Void> deletePlan(@PathVariable Long id, HttpServletRequest request) {
@@ -1,16 +1,22 @@
 package SK_3team.example.planner.controller;
 
+import SK_3team.example.planner.dto.CustomUserDetails;
 import SK_3team.example.planner.dto.UserDTO;
+import SK_3team.example.planner.dto.UserSessionDto;
 import SK_3team.example.planner.jwt.JWTUtil;
 import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.redis.RevocationEpochs;
 import SK_3team.example.planner.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/users")
@@ -19,6 +25,7 @@ public class UserController {
     private final UserService userService;
     private final RedisUtil redisUtil;
     private final JWTUtil jwtUtil;
+    private final RevocationEpochs revocationEpochs;
 
     @GetMapping("/")
     public String mainPage(){
@@ -42,4 +49,17 @@ public class UserController {
         }
     }
 
+    // 내 로그인 세션 목록 (기기별 토큰)
+    @GetMapping("/sessions")
+    public ResponseEntity<List<UserSessionDto>> getSessions(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(redisUtil.getSessions(userDetails.getUsername()));
+    }
+
+    // 내 모든 세션 강제 로그아웃
+    @DeleteMapping("/sessions")
+    public ResponseEntity<Void> revokeSessions(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        revocationEpochs.revokeAll(userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -0,0 +1,20 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponseDto {
+    private String status;
+    private Integer code;
+    private String jobId;
+    private String state;       // QUEUED, RUNNING, DONE, FAILED
+    private String format;      // pdf, jpg, png
+    private String downloadUrl; // DONE 일 때만 값이 있음
+    private String message;
+}
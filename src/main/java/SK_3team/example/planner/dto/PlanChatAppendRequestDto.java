@@ -0,0 +1,17 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanChatAppendRequestDto {
+    private Integer expectedSeq;             // 클라이언트가 알고 있는 마지막 턴 번호 (다르면 409, 재전송 중복 방지), 생략 가능
+    private List<PlanChatMessageDto> turns;  // 새로 추가할 턴만
+}
@@ -0,0 +1,20 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// AI 대화 한 턴 (추가 요청에서는 role, content 만 사용)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanChatMessageDto {
+    private Integer seq;
+    private String role;      // user, ai
+    private String content;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanChatWindowDto {
+    private String status;
+    private Integer code;
+    private Long planId;
+    private List<PlanChatMessageDto> turns; // 항상 seq 오름차순
+    private boolean hasMore;                // 요청 방향으로 더 읽을 턴이 있는지
+    private String message;
+}
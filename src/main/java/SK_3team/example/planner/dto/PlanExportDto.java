@@ -0,0 +1,20 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// PDF/JPG 렌더링에 필요한 값만 담은 스냅샷 (엔티티/영속성 컨텍스트와 분리)
+@Getter
+@AllArgsConstructor
+public class PlanExportDto {
+    private final Long planId;
+    private final String guestKey;
+    private final long contentVersion;
+    private final String title;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final String aiChatContent;   // 기존 전체 대화 + plan_chat_messages 턴을 이어 붙인 내용
+    private final int lastChatSeq;        // 0 이면 추가된 턴 없음 (턴 조회 생략)
+}
@@ -0,0 +1,29 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanImportResponseDto {
+    private String status;        // success, partial(일부 실패), error(모두 실패)
+    private Integer code;
+    private int total;            // 읽은 행 수
+    private int imported;
+    private int failed;
+    private List<RowError> errors; // 최대 100건까지만 담음
+    private String message;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;          // 1부터 시작 (NDJSON 줄 번호 / 배열 순서)
+        private String message;
+    }
+}
@@ -0,0 +1,20 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanPageResponseDto {
+    private String status;
+    private Integer code;
+    private List<PlanResponseDto> plans;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+    private String message;
+}
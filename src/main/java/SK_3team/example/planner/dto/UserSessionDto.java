@@ -0,0 +1,17 @@
+package SK_3team.example.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSessionDto {
+    private String sessionId;       // 토큰 해시 (토큰 원문은 노출하지 않음)
+    private LocalDateTime expiresAt;
+}
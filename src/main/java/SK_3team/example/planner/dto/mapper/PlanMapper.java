@@ -0,0 +1,83 @@
+package SK_3team.example.planner.dto.mapper;
+
+import SK_3team.example.planner.dto.PlanChatMessageDto;
+import SK_3team.example.planner.dto.PlanDetailResponseDto;
+import SK_3team.example.planner.dto.PlanResponseDto;
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanChatMessage;
+
+import java.util.List;
+
+// Plan / PlanSummary -> 응답 DTO 변환 (PlanService 에서 분리, 벤치마크에서도 그대로 사용)
+public class PlanMapper {
+
+    public static PlanResponseDto fromSummary(PlanSummary plan) {
+        return new PlanResponseDto(
+                "success",
+                200,
+                plan.start(),
+                plan.end(),
+                plan.createdAt(),
+                plan.title(),
+                plan.id(),
+                plan.guestKey(),
+                "캘린더 생성 및 저장이 완료되었습니다"
+        );
+    }
+
+    public static PlanResponseDto toPlanResponseDto(Plan plan) {
+        return new PlanResponseDto(
+                "success",
+                200,
+                plan.getStart(),
+                plan.getEnd(),
+                plan.getCreatedAt(),
+                plan.getTitle(),
+                plan.getId(),
+                plan.getGuestKey(), // ⭐ guestKey 포함
+                "캘린더 생성 및 저장이 완료되었습니다"
+        );
+    }
+
+    // turns: plan_chat_messages 에 턴 단위로 추가된 대화 (내보내기와 같은 본문이 되도록 toTranscript 로 이어 붙임)
+    public static PlanDetailResponseDto toPlanDetailResponseDto(Plan plan, List<PlanChatMessage> turns) {
+        String aiChatContent = toTranscript((plan.getPlanDetail() != null) ? plan.getPlanDetail().getAiChatContent() : null, turns);
+        String chatId = (plan.getPlanDetail() != null) ? plan.getPlanDetail().getChatId() : null; // ⭐ chatId 추가 (PlanDetail에 chatId 필드가 있다면)
+
+        return new PlanDetailResponseDto(
+                "success",
+                200,
+                plan.getId(),
+                plan.getTitle(),
+                plan.getStart(),
+                plan.getEnd(),
+                plan.getCreatedAt(),
+                aiChatContent,
+                chatId, // ⭐ chatId 추가 (PlanDetailResponseDto에 chatId 필드가 있다면)
+                "단일 일정 상세 조회가 완료되었습니다"
+        );
+    }
+
+    public static PlanChatMessageDto toChatMessageDto(PlanChatMessage message) {
+        return new PlanChatMessageDto(message.getSeq(), message.getRole(), message.getContent(), message.getCreatedAt());
+    }
+
+    // 상세 조회/내보내기용 전체 대화: 기존 ai_chat_content 뒤에 턴을 "role: content" 줄로 이어 붙임 (기존 저장 형식과 동일)
+    public static String toTranscript(String aiChatContent, List<PlanChatMessage> turns) {
+        if (turns.isEmpty()) {
+            return aiChatContent;
+        }
+        StringBuilder transcript = new StringBuilder();
+        if (aiChatContent != null && !aiChatContent.isEmpty()) {
+            transcript.append(aiChatContent);
+        }
+        for (PlanChatMessage turn : turns) {
+            if (transcript.length() > 0) {
+                transcript.append('\n');
+            }
+            transcript.append(turn.getRole()).append(": ").append(turn.getContent());
+        }
+        return transcript.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package SK_3team.example.planner.dto.projection;
+
+import java.time.LocalDateTime;
+
+// 게스트 일정 정리용 프로젝션: 잠금/keyset/outbox 기록에 필요한 plans 컬럼만 (plan_details 는 읽지 않음)
+public record IdleGuestPlan(Long id, LocalDateTime modifiedAt, long contentVersion) {
+}
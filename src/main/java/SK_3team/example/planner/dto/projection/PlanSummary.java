@@ -0,0 +1,15 @@
+package SK_3team.example.planner.dto.projection;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 projection: plans 테이블 컬럼만 읽고 plan_details는 건드리지 않음
+// (PlanRepository의 select new ... 생성자 표현식으로 생성)
+public record PlanSummary(
+        Long id,
+        String title,
+        LocalDateTime start,
+        LocalDateTime end,
+        LocalDateTime createdAt,
+        String guestKey
+) {
+}
@@ -0,0 +1,5 @@
+package SK_3team.example.planner.dto.projection;
+
+// 내보내기 전 권한/버전 확인용 프로젝션 (plans 한 행만 읽음)
+public record PlanVersion(Long id, Long userId, long contentVersion) {
+}
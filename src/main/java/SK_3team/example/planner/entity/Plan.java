@@ -1,5 +1,6 @@
 package SK_3team.example.planner.entity;
 
+import SK_3team.example.planner.guest.GuestKeyConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,8 +18,11 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Plan {
 
+    // IDENTITY 는 insert 배치가 꺼지므로 id_generators 테이블에서 50개씩 미리 할당 (pooled-lo, 일괄 가져오기 배치 insert 용)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "plans_id")
+    @TableGenerator(name = "plans_id", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "plans", allocationSize = 50)
     private Long id;
 
     @Column(nullable = true, length = 255)
@@ -39,9 +43,32 @@ public class Plan {
     @OneToOne(mappedBy = "plan", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private PlanDetail planDetail;
 
-    @Column(unique = true, nullable = true, length = 36)
+    // 외부에는 UUID 문자열, DB 에는 BINARY(16) 로 저장 (uk_plans_guest_key_bin, GuestKeyConverter)
+    @Convert(converter = GuestKeyConverter.class)
+    @Column(name = "guest_key_bin", unique = true, nullable = true, columnDefinition = "BINARY(16)")
     private String guestKey;
 
+    // 내용(제목/기간/AI 대화)이 바뀔 때마다 증가, 내보내기 캐시 키와 ETag 에 사용
+    @Column(name = "content_version", nullable = false)
+    private long contentVersion;
+
+    // 마지막으로 추가된 AI 대화 턴 번호 (plan_chat_messages.seq), 턴 추가 시 이 행을 잠그고 다음 번호를 할당
+    @Column(name = "last_chat_seq", nullable = false)
+    private int lastChatSeq;
+
+    // 마지막 저장 시각 (insert/update 마다 갱신), 오래 방치된 게스트 일정 정리(GuestPlanReaper) 기준
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    public void increaseContentVersion() {
+        this.contentVersion++;
+    }
 
     public void setPlanDetail(PlanDetail planDetail) {
         this.planDetail = planDetail;
@@ -0,0 +1,42 @@
+package SK_3team.example.planner.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// AI 대화 한 턴 (append-only), (plan_id, seq) 로 순서를 정함
+// 턴을 추가할 때 Plan 엔티티 그래프를 읽지 않도록 연관관계 대신 plan_id 컬럼만 둠
+@Entity
+@Table(name = "plan_chat_messages",
+        uniqueConstraints = @UniqueConstraint(name = "uk_plan_chat_messages_plan_seq", columnNames = {"plan_id", "seq"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanChatMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "plan_chat_messages_id")
+    @TableGenerator(name = "plan_chat_messages_id", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "plan_chat_messages", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(nullable = false)
+    private int seq;
+
+    @Column(nullable = false, length = 20)
+    private String role; // user, ai
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -15,7 +15,9 @@ import lombok.AllArgsConstructor;
 public class PlanDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "plan_details_id")
+    @TableGenerator(name = "plan_details_id", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "plan_details", allocationSize = 50)
     private Long id;
 
     @Column(name = "ai_chat_content", columnDefinition = "TEXT", nullable = true)
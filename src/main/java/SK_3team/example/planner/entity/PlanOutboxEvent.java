@@ -0,0 +1,59 @@
+package SK_3team.example.planner.entity;
+
+import SK_3team.example.planner.outbox.PlanEvent;
+import SK_3team.example.planner.outbox.PlanEventType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 일정 변경 이벤트 outbox: 일정 저장과 같은 트랜잭션에서 insert, OutboxRelay 가 전달 후 delivered_at 기록
+// 일괄 가져오기에서도 배치 insert 되도록 id 는 plans 와 같은 방식(id_generators)으로 할당
+@Entity
+@Table(name = "plan_outbox")
+@Getter
+@NoArgsConstructor
+public class PlanOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "plan_outbox_id")
+    @TableGenerator(name = "plan_outbox_id", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "plan_outbox", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private PlanEventType type;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "content_version", nullable = false)
+    private long contentVersion;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    public PlanOutboxEvent(PlanEventType type, Long planId, Long userId, long contentVersion, LocalDateTime createdAt) {
+        this.type = type;
+        this.planId = planId;
+        this.userId = userId;
+        this.contentVersion = contentVersion;
+        this.createdAt = createdAt;
+    }
+
+    public void markDelivered(LocalDateTime deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+
+    public PlanEvent toEvent() {
+        return new PlanEvent(id, type, planId, userId, contentVersion, createdAt);
+    }
+}
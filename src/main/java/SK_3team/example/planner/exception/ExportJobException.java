@@ -0,0 +1,15 @@
+package SK_3team.example.planner.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+// 내보내기 작업 관련 오류 (대기열 초과 503, 사용자별 동시 작업 초과 429, 미완료 다운로드 409 등)
+@Getter
+public class ExportJobException extends RuntimeException {
+    private final HttpStatus httpStatus;
+
+    public ExportJobException(String message, HttpStatus httpStatus) {
+        super(message);
+        this.httpStatus = httpStatus;
+    }
+}
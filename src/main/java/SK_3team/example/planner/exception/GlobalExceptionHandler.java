@@ -1,12 +1,14 @@
 package SK_3team.example.planner.exception;
 
 import SK_3team.example.planner.dto.ErrorResponseDto;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+@Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -32,6 +34,39 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
+    // PlanConflictException 처리
+    @ExceptionHandler(PlanConflictException.class)
+    public ResponseEntity<ErrorResponseDto> handlePlanConflictException(PlanConflictException ex, WebRequest request) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                "error",
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // ExportJobException 처리 (상태 코드는 예외에 담긴 값 사용)
+    @ExceptionHandler(ExportJobException.class)
+    public ResponseEntity<ErrorResponseDto> handleExportJobException(ExportJobException ex, WebRequest request) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                "error",
+                ex.getHttpStatus().value(),
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, ex.getHttpStatus());
+    }
+
+    // 요청 값 검증 실패 (잘못된 커서, 기간, 일괄 내보내기 조건 등): 400, 서버 오류가 아니므로 ERROR 로그 없음
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponseDto> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                "error",
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleGlobalException(Exception ex, WebRequest request) {
         ErrorResponseDto errorResponse = new ErrorResponseDto(
@@ -40,7 +75,7 @@ public class GlobalExceptionHandler {
                 "서버 오류가 발생했습니다. 잠시 후 다시 시도해주세요."
 
         );
-        ex.printStackTrace();
+        log.error("처리되지 않은 예외", ex);
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
\ No newline at end of file
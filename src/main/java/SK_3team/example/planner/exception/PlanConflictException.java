@@ -0,0 +1,12 @@
+package SK_3team.example.planner.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 클라이언트가 알고 있는 일정 상태가 서버와 다를 때 (예: AI 대화 턴 번호 불일치)
+@ResponseStatus(HttpStatus.CONFLICT)
+public class PlanConflictException extends RuntimeException {
+    public PlanConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,254 @@
+package SK_3team.example.planner.export;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+// 내보내기 결과 캐시: (planId, contentVersion, format) 이 같으면 결과물도 같으므로 다시 렌더링하지 않음
+// 1차: 메모리 LRU (Caffeine, 바이트 수 기준 가중치) / 2차(선택): 로컬 디스크, FileChannel.transferTo 로 전송
+// contentVersion 은 일정 저장/수정 때마다 증가하므로 별도 무효화 없이 이전 버전은 자연히 밀려남 (디스크는 저장 시 삭제)
+// 일정 변경 이벤트(ExportCacheEventSink, Redis pub/sub 으로 모든 노드에 전파)를 받으면 이전 버전을 미리 비워서 메모리/디스크를 회수
+@Slf4j
+@Component
+public class ExportCache {
+
+    // 응답/파일 스트림에 결과물을 쓰는 함수 (렌더러, 캐시 히트 모두 같은 형태)
+    @FunctionalInterface
+    public interface ArtifactWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    public record Key(long planId, long version, ExportFormat format) {
+
+        public String etag() {
+            return "\"" + planId + "-" + version + "-" + format.getExtension() + "\"";
+        }
+
+        String fileName() {
+            return planId + "-v" + version + "." + format.getExtension();
+        }
+    }
+
+    private final Cache<Key, byte[]> memory;
+    private final long maxEntryBytes;
+    private final boolean diskEnabled;
+    private final Path diskDir;
+    private final Duration diskTtl;
+
+    public ExportCache(MeterRegistry meterRegistry,
+                       @Value("${planner.export.cache.memory-max-size:64MB}") DataSize memoryMaxSize,
+                       @Value("${planner.export.cache.memory-max-entry-size:2MB}") DataSize memoryMaxEntrySize,
+                       @Value("${planner.export.cache.disk-enabled:false}") boolean diskEnabled,
+                       @Value("${planner.export.cache.disk-dir:${java.io.tmpdir}/planner-export-cache}") String diskDir,
+                       @Value("${planner.export.cache.disk-ttl:24h}") Duration diskTtl) throws IOException {
+        this.maxEntryBytes = memoryMaxEntrySize.toBytes();
+        this.diskEnabled = diskEnabled;
+        this.diskDir = diskEnabled ? Files.createDirectories(Paths.get(diskDir)) : Paths.get(diskDir);
+        this.diskTtl = diskTtl;
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(memoryMaxSize.toBytes())
+                .weigher((Key key, byte[] bytes) -> bytes.length)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "export.artifact");
+    }
+
+    // 캐시에 있으면 writer, 없으면 null
+    public ArtifactWriter get(Key key) {
+        byte[] bytes = memory.getIfPresent(key);
+        if (bytes != null) {
+            return outputStream -> outputStream.write(bytes);
+        }
+        if (diskEnabled) {
+            Path file = diskDir.resolve(key.fileName());
+            if (Files.isRegularFile(file)) {
+                return outputStream -> transfer(file, outputStream);
+            }
+        }
+        return null;
+    }
+
+    // 렌더링하면서 캐시에 저장
+    // 디스크 사용: 임시 파일에 렌더링 -> 원자적 rename -> transferTo 로 전송
+    // 메모리만 사용: 응답에 바로 쓰면서 복사본을 모으고, 최대 엔트리 크기를 넘으면 캐시하지 않음 (힙 사용량 상한 유지)
+    public void renderAndStore(Key key, ArtifactWriter renderer, OutputStream outputStream) throws IOException {
+        if (diskEnabled) {
+            Path file = diskDir.resolve(key.fileName());
+            Path tmp = Files.createTempFile(diskDir, key.fileName(), ".tmp");
+            try {
+                try (OutputStream fileOut = Files.newOutputStream(tmp)) {
+                    renderer.writeTo(fileOut);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            deleteOlderVersions(key);
+            if (Files.size(file) <= maxEntryBytes) {
+                memory.put(key, Files.readAllBytes(file));
+            }
+            transfer(file, outputStream);
+            return;
+        }
+
+        CapturingOutputStream capturing = new CapturingOutputStream(outputStream, maxEntryBytes);
+        renderer.writeTo(capturing);
+        capturing.flush();
+        byte[] captured = capturing.captured();
+        if (captured != null) {
+            memory.put(key, captured);
+        }
+    }
+
+    // keepVersion 보다 오래된 버전 제거 (일정 삭제 시 Long.MAX_VALUE 로 전부 제거)
+    public void evict(long planId, long keepVersion) {
+        memory.asMap().keySet().removeIf(key -> key.planId() == planId && key.version() < keepVersion);
+        if (!diskEnabled) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(diskDir, planId + "-v*")) {
+            for (Path file : files) {
+                if (versionOf(file) < keepVersion) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("내보내기 캐시 제거 실패: planId={}", planId, e);
+        }
+    }
+
+    // 오래된 디스크 캐시 정리 (삭제된 일정의 파일 등)
+    @Scheduled(fixedDelayString = "${planner.export.cache.cleanup-interval-ms:3600000}")
+    public void purgeExpiredFiles() {
+        if (!diskEnabled) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(diskTtl);
+        try (Stream<Path> files = Files.list(diskDir)) {
+            files.filter(file -> isOlderThan(file, cutoff)).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("내보내기 캐시 디렉터리 정리 실패: {}", diskDir, e);
+        }
+    }
+
+    // 커널에서 바로 복사 (대상이 소켓 채널이 아니면 JDK 가 버퍼 복사로 처리)
+    private void transfer(Path file, OutputStream outputStream) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    // 같은 일정/형식의 이전 버전 파일 삭제 (예: 12-v3.pdf 저장 시 12-v1.pdf, 12-v2.pdf)
+    private void deleteOlderVersions(Key key) {
+        String pattern = key.planId() + "-v*." + key.format().getExtension();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(diskDir, pattern)) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().equals(key.fileName())) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이전 버전 내보내기 캐시 삭제 실패: {}", key, e);
+        }
+    }
+
+    // "<planId>-v<version>.<ext>" 에서 version, 형식이 다르면(임시 파일 등) 제거 대상에서 제외
+    private long versionOf(Path file) {
+        String name = file.getFileName().toString();
+        int start = name.indexOf("-v");
+        int end = name.indexOf('.', start);
+        if (start < 0 || end < 0 || name.endsWith(".tmp")) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(name.substring(start + 2, end));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("내보내기 캐시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    // 원본 스트림에 쓰면서 limit 까지만 복사본을 모음 (넘으면 복사 중단)
+    private static final class CapturingOutputStream extends FilterOutputStream {
+
+        private final long limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        CapturingOutputStream(OutputStream out, long limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (buffer != null) {
+                buffer.write(b);
+                checkLimit();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (buffer != null) {
+                buffer.write(b, off, len);
+                checkLimit();
+            }
+        }
+
+        byte[] captured() {
+            return buffer != null ? buffer.toByteArray() : null;
+        }
+
+        private void checkLimit() {
+            if (buffer.size() > limit) {
+                buffer = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package SK_3team.example.planner.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    PDF("pdf", MediaType.APPLICATION_PDF),
+    JPG("jpg", MediaType.IMAGE_JPEG),
+    PNG("png", MediaType.IMAGE_PNG);
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    // 요청 파라미터(pdf/jpg/png, 대소문자 무관) -> ExportFormat
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
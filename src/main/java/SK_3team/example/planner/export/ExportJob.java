@@ -0,0 +1,52 @@
+package SK_3team.example.planner.export;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+// 내보내기 작업 하나의 상태 (메모리에만 보관, 결과 파일은 디스크)
+// 상태 필드는 워커 스레드가 쓰고 요청 스레드가 읽으므로 volatile
+@Getter
+public class ExportJob {
+
+    public enum State { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final String owner;       // "user:<id>" 또는 "guest:<guestKey>"
+    private final ExportFormat format;
+    private final String fileName;    // 다운로드 시 Content-Disposition 파일명
+    private final Instant createdAt = Instant.now();
+
+    private volatile State state = State.QUEUED;
+    private volatile Path file;
+    private volatile String error;
+    private volatile Instant finishedAt;
+
+    ExportJob(String id, String owner, ExportFormat format, String fileName) {
+        this.id = id;
+        this.owner = owner;
+        this.format = format;
+        this.fileName = fileName;
+    }
+
+    void running() {
+        this.state = State.RUNNING;
+    }
+
+    void done(Path file) {
+        this.file = file;
+        this.finishedAt = Instant.now();
+        this.state = State.DONE;
+    }
+
+    void failed(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = State.FAILED;
+    }
+
+    public boolean isFinished() {
+        return state == State.DONE || state == State.FAILED;
+    }
+}
@@ -0,0 +1,270 @@
+package SK_3team.example.planner.export;
+
+import SK_3team.example.planner.dto.ExportJobResponseDto;
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.exception.ExportJobException;
+import SK_3team.example.planner.service.PlanExportService;
+import SK_3team.example.planner.service.PlanService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// PDF/JPG 비동기 내보내기
+// 요청 스레드: 권한 확인 + 스냅샷 조회(짧은 readOnly 트랜잭션) 후 작업 ID 반환
+// 워커 스레드: 렌더링 후 로컬 디스크에 저장, result-ttl 이 지나면 정리
+// 대기열이 가득 차면 503, 같은 사용자(게스트 키)의 진행 중 작업이 상한을 넘으면 429
+// spring.threads.virtual.enabled=true 면 작업마다 가상 스레드를 쓰고, 풀 대신 세마포어로 같은 한도를 지킴
+//   admission: 대기 + 실행 중 작업 수 (workers + queue-capacity), rendering: 동시에 렌더링하는 작업 수 (workers)
+@Slf4j
+@Service
+public class ExportJobService {
+
+    private final PlanService planService;
+    private final PlanExportService planExportService;
+    private final ExecutorService executor;
+    private final Semaphore admission;  // 플랫폼 스레드 모드에서는 null (ThreadPoolExecutor 대기열이 대신함)
+    private final Semaphore rendering;
+    private final Path storageDir;
+    private final int maxJobsPerOwner;
+    private final Duration resultTtl;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Integer> activeJobsByOwner = new ConcurrentHashMap<>();
+
+    public ExportJobService(PlanService planService,
+                            PlanExportService planExportService,
+                            @Value("${planner.export.workers:2}") int workers,
+                            @Value("${planner.export.queue-capacity:50}") int queueCapacity,
+                            @Value("${planner.export.max-jobs-per-owner:2}") int maxJobsPerOwner,
+                            @Value("${planner.export.result-ttl:30m}") Duration resultTtl,
+                            @Value("${planner.export.storage-dir:${java.io.tmpdir}/planner-exports}") String storageDir,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) throws IOException {
+        this.planService = planService;
+        this.planExportService = planExportService;
+        this.maxJobsPerOwner = maxJobsPerOwner;
+        this.resultTtl = resultTtl;
+        this.storageDir = Files.createDirectories(Paths.get(storageDir));
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("export-worker-", 0).factory());
+            this.admission = new Semaphore(workers + queueCapacity);
+            this.rendering = new Semaphore(workers);
+        } else {
+            this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("export-worker-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+            this.admission = null;
+            this.rendering = null;
+        }
+    }
+
+    // 작업 등록: planId(회원) 또는 guestKey(게스트)
+    public ExportJobResponseDto submit(ExportFormat format, Long planId, String guestKey, Long userId) {
+        if (planId == null && (guestKey == null || guestKey.isEmpty())) {
+            throw new IllegalArgumentException("일정 ID 또는 게스트 키가 필요합니다.");
+        }
+        String owner = ownerOf(userId, guestKey);
+        if (!acquire(owner)) {
+            throw new ExportJobException("진행 중인 내보내기 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        ExportJob job;
+        try {
+            // 권한/존재 여부는 여기서 바로 확인 (404/401을 작업 실패가 아닌 요청 오류로 돌려줌)
+            PlanExportDto plan = planService.getPlanForExport(planId, guestKey, userId);
+            String fileName = "plan_" + (planId != null ? planId : guestKey.substring(0, Math.min(8, guestKey.length()))) + "." + format.getExtension();
+            job = new ExportJob(UUID.randomUUID().toString(), owner, format, fileName);
+            jobs.put(job.getId(), job);
+
+            ExportJob submitted = job;
+            dispatch(() -> render(submitted, plan));
+        } catch (RejectedExecutionException e) {
+            release(owner);
+            throw new ExportJobException("내보내기 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            release(owner);
+            throw e;
+        }
+        return toResponseDto(job, "내보내기 작업이 등록되었습니다.");
+    }
+
+    public ExportJobResponseDto getStatus(String jobId, Long userId, String guestKey) {
+        ExportJob job = findJob(jobId, userId, guestKey);
+        String message = switch (job.getState()) {
+            case QUEUED -> "대기 중입니다.";
+            case RUNNING -> "파일을 생성하고 있습니다.";
+            case DONE -> "파일 생성이 완료되었습니다.";
+            case FAILED -> job.getError();
+        };
+        return toResponseDto(job, message);
+    }
+
+    // 완료된 작업만 다운로드 가능
+    public ExportJob getCompletedJob(String jobId, Long userId, String guestKey) {
+        ExportJob job = findJob(jobId, userId, guestKey);
+        if (job.getState() != ExportJob.State.DONE) {
+            throw new ExportJobException("아직 다운로드할 수 없는 작업입니다. (상태: " + job.getState() + ")", HttpStatus.CONFLICT);
+        }
+        return job;
+    }
+
+    public void writeResult(ExportJob job, OutputStream outputStream) throws IOException {
+        Files.copy(job.getFile(), outputStream);
+    }
+
+    // 만료된 작업/파일 정리 (재시작 등으로 목록에서 빠진 파일도 수정시각 기준으로 삭제)
+    @Scheduled(fixedDelayString = "${planner.export.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(resultTtl);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            if (job.getFile() != null) {
+                deleteQuietly(job.getFile());
+            }
+            return true;
+        });
+
+        try (Stream<Path> files = Files.list(storageDir)) {
+            files.filter(file -> isOlderThan(file, cutoff)).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("내보내기 결과 디렉터리 정리 실패: {}", storageDir, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 가득 차면 RejectedExecutionException (두 모드 모두 같은 예외로 503 처리)
+    private void dispatch(Runnable task) {
+        if (admission == null) {
+            executor.execute(task);
+            return;
+        }
+        if (!admission.tryAcquire()) {
+            throw new RejectedExecutionException("export queue is full");
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    // 렌더링은 CPU 위주라 동시 실행 수는 workers 로 제한 (대기 중에는 QUEUED 상태 유지)
+                    rendering.acquireUninterruptibly();
+                    try {
+                        task.run();
+                    } finally {
+                        rendering.release();
+                    }
+                } finally {
+                    admission.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    private void render(ExportJob job, PlanExportDto plan) {
+        job.running();
+        Path target = storageDir.resolve(job.getId() + "." + job.getFormat().getExtension());
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(target)) {
+                planExportService.write(job.getFormat(), plan, outputStream);
+            }
+            job.done(target);
+        } catch (Exception e) {
+            log.error("내보내기 작업 실패 (jobId: {})", job.getId(), e);
+            deleteQuietly(target);
+            job.failed("파일 생성 중 오류가 발생했습니다.");
+        } finally {
+            release(job.getOwner());
+        }
+    }
+
+    // 다른 사용자의 작업은 없는 것으로 취급 (작업 ID 추측 방지)
+    private ExportJob findJob(String jobId, Long userId, String guestKey) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || (userId == null && (guestKey == null || guestKey.isEmpty()))
+                || !job.getOwner().equals(ownerOf(userId, guestKey))) {
+            throw new ExportJobException("내보내기 작업을 찾을 수 없습니다. (jobId: " + jobId + ")", HttpStatus.NOT_FOUND);
+        }
+        return job;
+    }
+
+    private String ownerOf(Long userId, String guestKey) {
+        return userId != null ? "user:" + userId : "guest:" + guestKey;
+    }
+
+    // owner별 진행 중 작업 수 (compute로 키 단위 원자적 증감, 0이 되면 엔트리 제거)
+    private boolean acquire(String owner) {
+        boolean[] acquired = {false};
+        activeJobsByOwner.compute(owner, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxJobsPerOwner) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void release(String owner) {
+        activeJobsByOwner.computeIfPresent(owner, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    private boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("내보내기 결과 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private ExportJobResponseDto toResponseDto(ExportJob job, String message) {
+        String downloadUrl = job.getState() == ExportJob.State.DONE ? "/plans/export/jobs/" + job.getId() + "/file" : null;
+        return new ExportJobResponseDto(
+                "success",
+                200,
+                job.getId(),
+                job.getState().name(),
+                job.getFormat().getExtension(),
+                downloadUrl,
+                message
+        );
+    }
+}
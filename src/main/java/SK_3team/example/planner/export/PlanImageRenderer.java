@@ -0,0 +1,254 @@
+package SK_3team.example.planner.export;
+
+import SK_3team.example.planner.dto.PlanExportDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineBreakMeasurer;
+import java.awt.font.TextAttribute;
+import java.awt.font.TextLayout;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 일정 JPG/PNG 렌더러
+// - 폰트는 시작할 때 한 번만 로드 (planner.export.image.font-path, 비어 있거나 읽지 못하면 설치된 한글 폰트 -> SansSerif 순으로 대체)
+// - LineBreakMeasurer 로 실제 글자 폭 기준 줄바꿈, 이미지 높이는 내용에 맞춤 (max-height 초과분은 생략 표시)
+// - ImageWriter 는 형식별 풀에서 재사용, JPEG 품질은 설정값
+@Slf4j
+@Component
+public class PlanImageRenderer {
+
+    private static final int MARGIN = 50;
+    private static final float LINE_SPACING = 4f;
+    private static final String TRUNCATED_MARK = "... (이하 생략)";
+
+    // font-path 를 읽지 못했을 때 찾아볼 한글 폰트 (Windows / Linux 패키지 / Noto CJK 순)
+    private static final List<String> FALLBACK_FAMILIES = List.of("Malgun Gothic", "NanumGothic", "Noto Sans CJK KR");
+    private static final String KOREAN_SAMPLE = "일정";
+
+    // 레이아웃 측정과 실제 그리기에서 같은 값 사용 (안티앨리어싱 + fractional metrics)
+    private static final FontRenderContext FONT_RENDER_CONTEXT = new FontRenderContext(null, true, true);
+
+    private final Font titleFont;
+    private final Font bodyFont;
+    private final int width;
+    private final int maxHeight;
+    private final float jpegQuality;
+    private final WriterPool jpegWriters;
+    private final WriterPool pngWriters;
+
+    public PlanImageRenderer(ResourceLoader resourceLoader,
+                             @Value("${planner.export.image.font-path:}") String fontPath,
+                             @Value("${planner.export.image.width:800}") int width,
+                             @Value("${planner.export.image.max-height:16000}") int maxHeight,
+                             @Value("${planner.export.image.jpeg-quality:0.85}") float jpegQuality,
+                             @Value("${planner.export.image.writer-pool-size:4}") int writerPoolSize) {
+        Font baseFont = loadFont(resourceLoader, fontPath);
+        this.titleFont = baseFont.deriveFont(Font.BOLD, 24f);
+        this.bodyFont = baseFont.deriveFont(Font.PLAIN, 16f);
+        this.width = width;
+        this.maxHeight = maxHeight;
+        this.jpegQuality = jpegQuality;
+        this.jpegWriters = new WriterPool("jpeg", writerPoolSize);
+        this.pngWriters = new WriterPool("png", writerPoolSize);
+    }
+
+    public void write(PlanExportDto plan, ExportFormat format, OutputStream outputStream) throws IOException {
+        if (format == ExportFormat.PDF) {
+            throw new IllegalArgumentException("이미지 형식이 아닙니다: " + format);
+        }
+        List<PositionedLine> lines = new ArrayList<>();
+        int height = layout(plan, lines);
+
+        // JPEG 인코더가 바로 쓰는 3바이트 BGR (INT_RGB 대비 메모리 25% 절약, 변환 없음)
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            g2d.setColor(Color.WHITE);
+            g2d.fillRect(0, 0, width, height);
+            g2d.setColor(Color.BLACK);
+            for (PositionedLine line : lines) {
+                line.layout().draw(g2d, MARGIN, line.baseline());
+            }
+        } finally {
+            g2d.dispose();
+        }
+
+        encode(image, format, outputStream);
+    }
+
+    // 줄 단위 배치 후 이미지 높이 반환
+    private int layout(PlanExportDto plan, List<PositionedLine> lines) {
+        LayoutCursor cursor = new LayoutCursor(lines, width - MARGIN * 2f, maxHeight - MARGIN);
+        cursor.paragraph("Plan Title: " + plan.getTitle(), titleFont);
+        cursor.paragraph("Start Date: " + plan.getStart(), titleFont);
+        cursor.paragraph("End Date: " + plan.getEnd(), titleFont);
+        if (plan.getAiChatContent() != null) {
+            cursor.space(bodyFont);
+            cursor.paragraph("AI Chat Content:", bodyFont);
+            for (String paragraph : (Iterable<String>) plan.getAiChatContent().lines()::iterator) {
+                if (!cursor.paragraph(paragraph, bodyFont)) {
+                    break;
+                }
+            }
+        }
+        return Math.min(maxHeight, (int) Math.ceil(cursor.y) + MARGIN);
+    }
+
+    private void encode(BufferedImage image, ExportFormat format, OutputStream outputStream) throws IOException {
+        WriterPool pool = format == ExportFormat.PNG ? pngWriters : jpegWriters;
+        ImageWriter writer = pool.borrow();
+        boolean reusable = false;
+        // 기본 ImageIO.createImageOutputStream 은 임시 파일 캐시를 쓸 수 있어 메모리 캐시로 고정
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = null;
+            if (format == ExportFormat.JPG) {
+                param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+            reusable = true;
+        } finally {
+            pool.release(writer, reusable);
+        }
+    }
+
+    private static Font loadFont(ResourceLoader resourceLoader, String fontPath) {
+        if (fontPath == null || fontPath.isBlank()) { // 기본값: 설치된 한글 폰트
+            return systemKoreanFont();
+        }
+        Resource resource = resourceLoader.getResource(fontPath);
+        if (resource.exists()) {
+            try (InputStream in = resource.getInputStream()) {
+                return Font.createFont(Font.TRUETYPE_FONT, in);
+            } catch (FontFormatException | IOException e) {
+                log.warn("내보내기 폰트 로드 실패, 설치된 한글 폰트 사용: {}", fontPath, e);
+            }
+        } else {
+            log.warn("내보내기 폰트가 없어 설치된 한글 폰트 사용: {}", fontPath);
+        }
+        return systemKoreanFont();
+    }
+
+    // 설치된 한글 폰트를 순서대로 찾고, 없으면 SansSerif (논리 폰트는 OS 설정에 따라 한글이 □ 로 나올 수 있음)
+    private static Font systemKoreanFont() {
+        Set<String> installed = Set.of(GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames());
+        for (String family : FALLBACK_FAMILIES) {
+            if (installed.contains(family)) {
+                Font font = new Font(family, Font.PLAIN, 16);
+                if (font.canDisplayUpTo(KOREAN_SAMPLE) == -1) {
+                    return font;
+                }
+            }
+        }
+        log.warn("설치된 한글 폰트를 찾지 못해 SansSerif 사용 (한글이 깨질 수 있음), 후보: {}", FALLBACK_FAMILIES);
+        return new Font(Font.SANS_SERIF, Font.PLAIN, 16);
+    }
+
+    private record PositionedLine(TextLayout layout, float baseline) {
+    }
+
+    // 위에서부터 줄을 쌓아가며 y 위치 계산, limit 을 넘으면 생략 표시 후 중단
+    private static final class LayoutCursor {
+
+        private final List<PositionedLine> lines;
+        private final float wrapWidth;
+        private final float limit;
+        private float y = MARGIN;
+        private boolean truncated;
+
+        LayoutCursor(List<PositionedLine> lines, float wrapWidth, float limit) {
+            this.lines = lines;
+            this.wrapWidth = wrapWidth;
+            this.limit = limit;
+        }
+
+        // 다 배치했으면 true, 높이 제한에 걸렸으면 false
+        boolean paragraph(String text, Font font) {
+            if (truncated) {
+                return false;
+            }
+            if (text.isEmpty()) {
+                space(font);
+                return true;
+            }
+            AttributedString attributed = new AttributedString(text);
+            attributed.addAttribute(TextAttribute.FONT, font);
+            LineBreakMeasurer measurer = new LineBreakMeasurer(attributed.getIterator(), FONT_RENDER_CONTEXT);
+            while (measurer.getPosition() < text.length()) {
+                TextLayout layout = measurer.nextLayout(wrapWidth);
+                float lineHeight = layout.getAscent() + layout.getDescent() + layout.getLeading() + LINE_SPACING;
+                // 생략 표시 한 줄이 들어갈 자리는 남겨둠
+                if (y + lineHeight * 2 > limit) {
+                    TextLayout mark = new TextLayout(TRUNCATED_MARK, font, FONT_RENDER_CONTEXT);
+                    lines.add(new PositionedLine(mark, y + mark.getAscent()));
+                    y += lineHeight;
+                    truncated = true;
+                    return false;
+                }
+                lines.add(new PositionedLine(layout, y + layout.getAscent()));
+                y += lineHeight;
+            }
+            return true;
+        }
+
+        void space(Font font) {
+            y += font.getSize2D() + LINE_SPACING;
+        }
+    }
+
+    // 형식별 ImageWriter 풀 (없으면 새로 만들고, 풀이 가득 차면 폐기)
+    private static final class WriterPool {
+
+        private final String formatName;
+        private final BlockingQueue<ImageWriter> idle;
+
+        WriterPool(String formatName, int size) {
+            this.formatName = formatName;
+            this.idle = new ArrayBlockingQueue<>(size);
+        }
+
+        ImageWriter borrow() {
+            ImageWriter writer = idle.poll();
+            return writer != null ? writer : ImageIO.getImageWritersByFormatName(formatName).next();
+        }
+
+        void release(ImageWriter writer, boolean reusable) {
+            if (reusable) {
+                writer.reset();
+                if (idle.offer(writer)) {
+                    return;
+                }
+            }
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package SK_3team.example.planner.guest;
+
+import SK_3team.example.planner.entity.Plan;
+
+import java.time.LocalDateTime;
+
+// 아직 MySQL 에 저장하지 않은 게스트 일정 (게스트 키와 발급 시각만 있음)
+public record GuestDraft(String guestKey, LocalDateTime createdAt) {
+
+    // 저장되지 않은 Plan 으로 변환 (승격 시 save, 내보내기/조회는 빈 일정으로 사용)
+    public Plan toPlan() {
+        Plan plan = new Plan();
+        plan.setGuestKey(guestKey);
+        plan.setUserId(null);
+        plan.setCreatedAt(createdAt);
+        return plan;
+    }
+}
@@ -0,0 +1,88 @@
+package SK_3team.example.planner.guest;
+
+import SK_3team.example.planner.repository.PlanRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// planner.guest.deferred-persistence=true 일 때 /plans/start 는 plans 행 대신 Redis 초안만 만듦 (봇/이탈 방문자는 DB 쓰기 없음)
+//   guest-draft:<guestKey> -> 발급 시각(ISO), TTL draft-ttl
+// 처음 실제 내용이 저장될 때(/plans/save, /plans/chat 턴 추가) 또는 회원이 가져갈 때 MySQL 로 승격하고 초안은 삭제
+// 같은 초안을 동시에 승격하면 plans.guest_key_bin 유니크 제약으로 한 건만 저장되고, 나머지는 먼저 저장된 행을 사용
+@Slf4j
+@Component
+public class GuestDraftStore {
+
+    private static final String KEY_PREFIX = "guest-draft:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final PlanRepository planRepository;
+    private final TransactionTemplate insertTransaction;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public GuestDraftStore(RedisTemplate<String, Object> redisTemplate,
+                           PlanRepository planRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${planner.guest.deferred-persistence:false}") boolean enabled,
+                           @Value("${planner.guest.draft-ttl:24h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.planRepository = planRepository;
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.ttl = ttl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public GuestDraft create() {
+        GuestDraft draft = new GuestDraft(GuestKeys.newKey(), LocalDateTime.now());
+        redisTemplate.opsForValue().set(KEY_PREFIX + draft.guestKey(), draft.createdAt().toString(), ttl);
+        return draft;
+    }
+
+    // 모드를 끈 뒤에도 남아 있는 초안은 TTL 까지 계속 읽음 (이미 발급한 게스트 키가 404 가 되지 않도록)
+    public Optional<GuestDraft> find(String guestKey) {
+        Object createdAt = redisTemplate.opsForValue().get(KEY_PREFIX + guestKey);
+        if (createdAt == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new GuestDraft(guestKey, LocalDateTime.parse((String) createdAt)));
+    }
+
+    // 승격: 초안이 있으면 빈 plans 행으로 insert 하고 (별도 트랜잭션으로 바로 커밋) Redis 초안 삭제, 호출한 쪽은 그다음 평소처럼 MySQL 에서 조회
+    //   호출한 트랜잭션 안에서 insert 하면 동시 승격에서 진 쪽의 유니크 제약 위반이 그 트랜잭션 전체를 rollback-only 로 만들어서 500 이 됨
+    //   조회보다 먼저 호출해야 함 (없는 키를 FOR UPDATE 로 조회하면 gap 잠금이 걸려서 별도 트랜잭션의 insert 가 그 잠금을 기다림)
+    // 진 쪽은 위반을 무시하고 이긴 쪽이 저장한 행을 그대로 씀
+    // 호출한 트랜잭션이 이후 롤백되어도 빈 행은 남음 (/plans/start 로 만든 행과 같고 GuestPlanReaper 가 정리)
+    public boolean promote(String guestKey) {
+        Optional<GuestDraft> draft = find(guestKey);
+        if (draft.isEmpty()) {
+            return false;
+        }
+        try {
+            insertTransaction.executeWithoutResult(status -> planRepository.saveAndFlush(draft.get().toPlan()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("게스트 초안이 동시에 승격됨, 먼저 저장된 일정 사용");
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + guestKey);
+        } catch (RuntimeException e) {
+            // 남은 초안은 TTL 로 사라지고, 다시 승격해도 유니크 제약 위반으로 끝남
+            log.warn("게스트 초안 삭제 실패", e);
+        }
+        return true;
+    }
+}
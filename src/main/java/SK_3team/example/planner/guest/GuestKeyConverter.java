@@ -0,0 +1,20 @@
+package SK_3team.example.planner.guest;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Plan.guestKey <-> plans.guest_key_bin: 엔티티/DTO/쿼리 파라미터는 UUID 문자열 그대로 쓰고 저장/비교는 BINARY(16) 로
+// UUID 형식이 아닌 값은 NULL 로 바뀌므로 어떤 행과도 일치하지 않음
+@Converter
+public class GuestKeyConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String guestKey) {
+        return GuestKeys.toBytes(guestKey);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] guestKeyBin) {
+        return guestKeyBin == null ? null : GuestKeys.fromBytes(guestKeyBin);
+    }
+}
@@ -0,0 +1,49 @@
+package SK_3team.example.planner.guest;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+// 게스트 키: 외부(API)에는 UUID 문자열 36자, DB 에는 plans.guest_key_bin BINARY(16)
+// 새 키는 UUIDv7 (앞 48비트가 ms 시각) 이라 유니크 인덱스 insert 가 인덱스 끝쪽 페이지에 몰림 (v4 는 임의 위치에 삽입되어 페이지 분할/캐시 미스)
+// 나머지 74비트는 SecureRandom (게스트 키는 인증 수단이므로 추측 불가해야 함)
+public final class GuestKeys {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private GuestKeys() {
+    }
+
+    public static String newKey() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        long millis = System.currentTimeMillis();
+        for (int i = 0; i < 6; i++) {
+            bytes[i] = (byte) (millis >>> (40 - 8 * i));
+        }
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x70); // version 7
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80); // variant 10
+        return fromBytes(bytes);
+    }
+
+    // UUID 형식이 아니면 null (존재하지 않는 키로 처리)
+    public static byte[] toBytes(String guestKey) {
+        if (guestKey == null || guestKey.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(guestKey);
+            return ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static String fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
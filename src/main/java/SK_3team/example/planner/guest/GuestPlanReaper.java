@@ -0,0 +1,172 @@
+package SK_3team.example.planner.guest;
+
+import SK_3team.example.planner.dto.projection.IdleGuestPlan;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 오래 방치된 게스트 일정 정리 (/plans/start 마다 plans 행이 생기고 지워지지 않아서 테이블과 guest_key_bin 인덱스가 계속 커짐)
+// 대상: user_id IS NULL 이고 마지막 저장(modified_at) 후 idle-age 가 지난 일정
+// 배치마다 트랜잭션 하나: (modified_at, id) keyset 으로 잠금(SKIP LOCKED) -> outbox DELETED 기록 -> 대화 턴/상세/일정 삭제
+// 배치 사이에 batch-pause 만큼 쉬어서 DB 부하를 제한, 여러 노드 중 Redis 락을 잡은 한 노드만 실행
+// 지표: planner.guest.purged{table}, planner.guest.reaper.runs{outcome}
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "planner.guest-reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class GuestPlanReaper {
+
+    private static final String LOCK_KEY = "lock:guest-plan-reaper";
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PlanRepository planRepository;
+    private final PlanChatMessageRepository planChatMessageRepository;
+    private final PlanOutbox planOutbox;
+    private final RedisUtil redisUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration idleAge;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Duration maxRunTime;
+    private final Duration lockTtl;
+
+    private final Counter purgedPlans;
+    private final Counter purgedDetails;
+    private final Counter purgedChatMessages;
+
+    public GuestPlanReaper(PlanRepository planRepository,
+                           PlanChatMessageRepository planChatMessageRepository,
+                           PlanOutbox planOutbox,
+                           RedisUtil redisUtil,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${planner.guest-reaper.idle-age:30d}") Duration idleAge,
+                           @Value("${planner.guest-reaper.batch-size:200}") int batchSize,
+                           @Value("${planner.guest-reaper.batch-pause:200ms}") Duration batchPause,
+                           @Value("${planner.guest-reaper.max-run-time:5m}") Duration maxRunTime,
+                           @Value("${planner.guest-reaper.lock-ttl:10m}") Duration lockTtl) {
+        if (maxRunTime.compareTo(lockTtl) >= 0) {
+            throw new IllegalArgumentException("planner.guest-reaper.max-run-time 은 lock-ttl 보다 짧아야 합니다.");
+        }
+        this.planRepository = planRepository;
+        this.planChatMessageRepository = planChatMessageRepository;
+        this.planOutbox = planOutbox;
+        this.redisUtil = redisUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.idleAge = idleAge;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxRunTime = maxRunTime;
+        this.lockTtl = lockTtl;
+
+        this.purgedPlans = purgedCounter("plans");
+        this.purgedDetails = purgedCounter("plan_details");
+        this.purgedChatMessages = purgedCounter("plan_chat_messages");
+    }
+
+    @Scheduled(initialDelayString = "${planner.guest-reaper.initial-delay-ms:60000}",
+            fixedDelayString = "${planner.guest-reaper.interval-ms:3600000}")
+    public void reap() {
+        String token = UUID.randomUUID().toString();
+        if (!redisUtil.tryLock(LOCK_KEY, token, lockTtl.toMillis())) {
+            recordRun("skipped"); // 다른 노드가 실행 중
+            return;
+        }
+        try {
+            long purged = purgeIdleGuestPlans();
+            recordRun("completed");
+            if (purged > 0) {
+                log.info("방치된 게스트 일정 {}건 삭제 (idle-age: {})", purged, idleAge);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordRun("interrupted");
+        } catch (RuntimeException e) {
+            recordRun("failed");
+            log.warn("게스트 일정 정리 실패, 다음 주기에 재시도", e);
+        } finally {
+            redisUtil.unlock(LOCK_KEY, token);
+        }
+    }
+
+    // max-run-time 안에서 배치를 반복 (락 TTL 이 끝나기 전에 멈춰서 두 노드가 동시에 돌지 않게 함)
+    private long purgeIdleGuestPlans() throws InterruptedException {
+        LocalDateTime cutoff = LocalDateTime.now().minus(idleAge);
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        Cursor cursor = new Cursor(KEYSET_START, 0L);
+        long purged = 0;
+
+        while (true) {
+            Cursor from = cursor;
+            Batch batch = transactionTemplate.execute(status -> purgeBatch(cutoff, from));
+            if (batch == null || batch.locked() == 0) {
+                return purged;
+            }
+            purged += batch.deleted();
+            cursor = batch.next();
+            if (batch.locked() < batchSize || System.nanoTime() > deadline) {
+                return purged;
+            }
+            Thread.sleep(batchPause.toMillis());
+        }
+    }
+
+    private Batch purgeBatch(LocalDateTime cutoff, Cursor after) {
+        List<IdleGuestPlan> plans = planRepository.findIdleGuestPlansForUpdate(cutoff, after.modifiedAt(), after.id(),
+                PageRequest.of(0, batchSize));
+        if (plans.isEmpty()) {
+            return new Batch(0, 0, after);
+        }
+
+        List<Long> ids = plans.stream().map(IdleGuestPlan::id).toList();
+        // 내보내기 캐시 등 정리 (게스트 일정이라 user_id 는 없음)
+        plans.forEach(plan -> planOutbox.record(PlanEventType.DELETED, plan.id(), null, plan.contentVersion()));
+
+        int chatMessages = planChatMessageRepository.deleteByPlanIdIn(ids);
+        int details = planRepository.deleteDetailsByPlanIds(ids);
+        int deleted = planRepository.deleteGuestPlansByIds(ids);
+
+        purgedChatMessages.increment(chatMessages);
+        purgedDetails.increment(details);
+        purgedPlans.increment(deleted);
+
+        IdleGuestPlan last = plans.get(plans.size() - 1);
+        return new Batch(plans.size(), deleted, new Cursor(last.modifiedAt(), last.id()));
+    }
+
+    private Counter purgedCounter(String table) {
+        return Counter.builder("planner.guest.purged")
+                .description("정리된 게스트 일정 관련 행 수")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+
+    private void recordRun(String outcome) {
+        meterRegistry.counter("planner.guest.reaper.runs", "outcome", outcome).increment();
+    }
+
+    private record Cursor(LocalDateTime modifiedAt, Long id) {
+    }
+
+    private record Batch(int locked, int deleted, Cursor next) {
+    }
+}
@@ -0,0 +1,68 @@
+package SK_3team.example.planner.jwt;
+
+import SK_3team.example.planner.redis.SessionStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// JWTFilter 인증 단계별 지표 (태그 값은 아래 enum 으로 고정, 사용자/토큰 값은 태그로 쓰지 않음)
+//   planner.auth.jwt.verify{outcome=cached|valid|expired|invalid}       토큰 검증 시간 (cached: 로컬 세션 캐시 적중)
+//   planner.auth.session.lookup{outcome=valid|missing|mismatched}        Redis 세션 조회 시간
+//   planner.auth.rejected{reason=...}                                    거부(또는 게스트 처리)된 요청 수
+// 요청 시마다 레지스트리를 조회하지 않도록 미리 등록해 둔 meter 를 사용
+@Component
+public class AuthMetrics {
+
+    public enum VerifyOutcome { CACHED, VALID, EXPIRED, INVALID }
+
+    public enum Rejection { MISSING_TOKEN, EXPIRED, INVALID, REVOKED, SESSION_MISSING, SESSION_MISMATCHED }
+
+    private final Map<VerifyOutcome, Timer> verifyTimers = new EnumMap<>(VerifyOutcome.class);
+    private final Map<SessionStatus, Timer> sessionTimers = new EnumMap<>(SessionStatus.class);
+    private final Map<Rejection, Counter> rejections = new EnumMap<>(Rejection.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (VerifyOutcome outcome : VerifyOutcome.values()) {
+            verifyTimers.put(outcome, Timer.builder("planner.auth.jwt.verify")
+                    .description("JWT 검증 시간")
+                    .tag("outcome", tagValue(outcome))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (SessionStatus status : SessionStatus.values()) {
+            sessionTimers.put(status, Timer.builder("planner.auth.session.lookup")
+                    .description("Redis 로그인 세션 조회 시간")
+                    .tag("outcome", status == SessionStatus.UNKNOWN ? "missing" : tagValue(status))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (Rejection reason : Rejection.values()) {
+            rejections.put(reason, Counter.builder("planner.auth.rejected")
+                    .description("인증 실패 요청 수 (공용 경로는 게스트로 통과)")
+                    .tag("reason", tagValue(reason))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordVerify(VerifyOutcome outcome, long startedNanos) {
+        verifyTimers.get(outcome).record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSessionLookup(SessionStatus status, long startedNanos) {
+        sessionTimers.get(status).record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejection(Rejection reason) {
+        rejections.get(reason).increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
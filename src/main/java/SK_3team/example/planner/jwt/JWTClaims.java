@@ -0,0 +1,30 @@
+package SK_3team.example.planner.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+// 서명 검증이 끝난 JWT의 클레임 묶음
+// JWTFilter에서 한 번만 파싱해서 만들고, 컨트롤러는 request attribute로 꺼내 쓴다
+@Getter
+@RequiredArgsConstructor
+public class JWTClaims {
+
+    // HttpServletRequest attribute 이름
+    public static final String ATTRIBUTE = JWTClaims.class.getName();
+
+    private final String username;
+    private final String role;
+    private final Long userId;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    public long getRemainingMillis() {
+        return expiration.getTime() - System.currentTimeMillis();
+    }
+}
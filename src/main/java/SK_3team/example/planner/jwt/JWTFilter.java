@@ -3,6 +3,11 @@ package SK_3team.example.planner.jwt;
 import SK_3team.example.planner.dto.CustomUserDetails;
 import SK_3team.example.planner.entity.UserEntity;
 import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.redis.RevocationEpochs;
+import SK_3team.example.planner.redis.SessionCache;
+import SK_3team.example.planner.redis.SessionStatus;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +25,9 @@ public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
     private final RedisUtil redisUtil;
+    private final SessionCache sessionCache;
+    private final RevocationEpochs revocationEpochs;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -28,25 +36,30 @@ public class JWTFilter extends OncePerRequestFilter {
         String authorization = request.getHeader("Authorization");
         String requestURI = request.getRequestURI();
 
-        // 토큰 잘 불러와지나 체크
-        System.out.println(authorization);
-
         response.setCharacterEncoding("UTF-8");
         response.setContentType("application/json; charset=UTF-8");
 
         // 여기서 token 필요없는 기능들 다 제끼면 될듯
         // 회원가입, 로그인 요청은 인증없이 통과
         if (requestURI.matches(".*/api/users/register$") ||
-                requestURI.matches(".*/api/users/login$") ||
-                requestURI.matches(".*/plans/start$") ||        // 게스트 키 발급
-                requestURI.matches(".*/plans/save$")        // 게스트/회원 일정 생성 및 저장
-                ) {
+                requestURI.matches(".*/api/users/login$")) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        // 게스트/회원 공용 경로: 토큰이 없으면 게스트로 통과, 있으면 검증해서 userId를 넘겨줌
+        boolean optionalAuth = requestURI.matches(".*/plans/start$") ||        // 게스트 키 발급
+                requestURI.matches(".*/plans/save$") ||        // 게스트/회원 일정 생성 및 저장
+                requestURI.matches(".*/plans/chat$") ||        // AI 대화 턴 추가/조회 (게스트는 guestKey)
+                requestURI.matches(".*/plans/export/.*");      // PDF/JPG 내보내기 (게스트는 guestKey로 접근)
+
         // Authorization 상태 이상하면 에러
         if (authorization == null || !authorization.startsWith("Bearer ")) {
+            if (optionalAuth) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            authMetrics.recordRejection(AuthMetrics.Rejection.MISSING_TOKEN);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setCharacterEncoding("UTF-8");
             response.setContentType("application/json; charset=UTF-8");
@@ -58,37 +71,60 @@ public class JWTFilter extends OncePerRequestFilter {
         // 토큰 만료됐는지, 블랙리스튼지 등 확인
         String token = authorization.substring(7);
 
-        if (jwtUtil.isExpired(token)) {
+        // 최근에 검증된 토큰이면 서명 검증과 Redis 조회를 모두 건너뜀
+        long verifyStarted = System.nanoTime();
+        JWTClaims claims = sessionCache.get(token);
+        boolean cached = claims != null;
+
+        if (cached) {
+            authMetrics.recordVerify(AuthMetrics.VerifyOutcome.CACHED, verifyStarted);
+        } else {
+            // 서명 검증은 요청당 여기서 한 번만 수행
+            try {
+                claims = jwtUtil.parse(token);
+                authMetrics.recordVerify(AuthMetrics.VerifyOutcome.VALID, verifyStarted);
+            } catch (ExpiredJwtException e) {
+                authMetrics.recordVerify(AuthMetrics.VerifyOutcome.EXPIRED, verifyStarted);
+                reject(request, response, filterChain, optionalAuth, AuthMetrics.Rejection.EXPIRED, "토큰이 만료되었습니다.");
+                return;
+            } catch (JwtException | IllegalArgumentException e) {
+                authMetrics.recordVerify(AuthMetrics.VerifyOutcome.INVALID, verifyStarted);
+                reject(request, response, filterChain, optionalAuth, AuthMetrics.Rejection.INVALID, "유효하지 않은 토큰입니다.");
+                return;
+            }
+        }
 
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("{\"message\": \"토큰이 만료되었습니다.\"}");
+        // 강제 로그아웃 기준시각 이전에 발급된 토큰 거부 (로컬 캐시 조회, 토큰별 블랙리스트 없음)
+        if (revocationEpochs.isRevoked(claims)) {
+            reject(request, response, filterChain, optionalAuth, AuthMetrics.Rejection.REVOKED, "로그아웃 된 토큰입니다.");
             return;
         }
 
-        // redis에서 데이터 가져오기
-        String username = jwtUtil.getUsername(token);
-        String storedUsername = redisUtil.getData(token);
+        if (!cached) {
+            // redis에서 로그인 세션 확인 (로그아웃하면 세션 키가 삭제됨)
+            long lookupStarted = System.nanoTime();
+            SessionStatus status = redisUtil.validateSession(token, claims.getUsername());
+            authMetrics.recordSessionLookup(status, lookupStarted);
 
-        if (storedUsername == null || !storedUsername.equals(username)) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("{\"message\": \"유효하지 않은 토큰입니다.\"}");
-            return;
-        }
+            if (status != SessionStatus.VALID) {
+                AuthMetrics.Rejection reason = status == SessionStatus.MISMATCHED
+                        ? AuthMetrics.Rejection.SESSION_MISMATCHED : AuthMetrics.Rejection.SESSION_MISSING;
+                reject(request, response, filterChain, optionalAuth, reason, "유효하지 않은 토큰입니다.");
+                return;
+            }
 
-        if (redisUtil.isBlackListed(token)) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("{\"message\": \"로그아웃 된 토큰입니다.\"}");
-            return;
+            sessionCache.put(token, claims);
         }
 
-        // 인증처리
-        String role = jwtUtil.getRole(token);
+        String username = claims.getUsername();
 
+        // 인증처리
         //userEntity를 생성하여 값 set
         UserEntity userEntity = new UserEntity();
+        userEntity.setId(claims.getUserId());
         userEntity.setUsername(username);
         userEntity.setPassword("temppassword");
-        userEntity.setRole(role);
+        userEntity.setRole(claims.getRole());
 
         CustomUserDetails customUserDetails = new CustomUserDetails(userEntity);
 
@@ -97,7 +133,23 @@ public class JWTFilter extends OncePerRequestFilter {
 
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
+        // 컨트롤러에서 토큰을 다시 파싱하지 않도록 검증된 클레임을 넘겨줌
+        request.setAttribute(JWTClaims.ATTRIBUTE, claims);
+
         filterChain.doFilter(request, response);
 
     }
+
+    // 공용 경로는 게스트로 그대로 통과시키고, 그 외에는 401 응답
+    private void reject(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                        boolean optionalAuth, AuthMetrics.Rejection reason, String message)
+            throws ServletException, IOException {
+        authMetrics.recordRejection(reason);
+        if (optionalAuth) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.getWriter().write("{\"message\": \"" + message + "\"}");
+    }
 }
@@ -1,9 +1,11 @@
 package SK_3team.example.planner.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -11,42 +13,44 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
+@Slf4j
 @Component
 public class JWTUtil {
 
     private final SecretKey secretKey;
 
+    // JwtParser는 불변/thread-safe라서 한 번만 만들어 재사용
+    private final JwtParser jwtParser;
+
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-    }
-
-    public String getUsername(String token) {
-        Claims claims = Jwts.parser()
+        this.jwtParser = Jwts.parser()
                 .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("username", String.class);
+                .build();
     }
 
+    // 서명 검증 + 클레임 추출을 한 번에 처리 (만료/위조 토큰이면 JwtException)
+    public JWTClaims parse(String token) throws JwtException {
+        Claims claims = extractAllClaims(token);
+        return new JWTClaims(
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.get("userId", Long.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
 
+    public String getUsername(String token) {
+        return extractAllClaims(token).get("username", String.class);
+    }
 
     public String getRole(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("role", String.class);
+        return extractAllClaims(token).get("role", String.class);
     }
 
     public boolean isExpired(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getExpiration().before(new Date());
+        return extractAllClaims(token).getExpiration().before(new Date());
     }
 
     public String createJwt(String username, String role, Long userId, Long expiredMs) {
@@ -54,27 +58,20 @@ public class JWTUtil {
         Date issuedAt = new Date(System.currentTimeMillis());
         Date expiration = new Date(System.currentTimeMillis() + expiredMs);
 
-        System.out.println("JWT Issued At: " + issuedAt);
-        System.out.println("JWT Expiration: " + expiration);
-        System.out.println("JWT Validity (ms): " + expiredMs);
-        System.out.println("Role passed to createJwt: " + role);
+        log.debug("JWT 생성: role={}, issuedAt={}, expiration={}", role, issuedAt, expiration);
 
         return Jwts.builder()
                 .claim("username", username)
                 .claim("role", role)
                 .claim("userId", userId) //
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredMs))
+                .issuedAt(issuedAt)
+                .expiration(expiration)
                 .signWith(secretKey)
                 .compact();
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     public Long getUserIdFromToken(String token) {
@@ -89,11 +86,7 @@ public class JWTUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return !claimsJws.getPayload().getExpiration().before(new Date());
+            return !extractAllClaims(token).getExpiration().before(new Date());
         } catch (Exception e) {
             return false;
         }
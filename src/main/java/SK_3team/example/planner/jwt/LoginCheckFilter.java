@@ -1,6 +1,8 @@
 package SK_3team.example.planner.jwt;
 
 import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.redis.RevocationEpochs;
+import SK_3team.example.planner.redis.SessionStatus;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,6 +18,7 @@ public class LoginCheckFilter implements Filter {
 
     private final RedisUtil redisUtil;
     private final JWTUtil jwtUtil;
+    private final RevocationEpochs revocationEpochs;
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
@@ -30,8 +33,6 @@ public class LoginCheckFilter implements Filter {
             String authHeader = request.getHeader("Authorization");
             String token = null;
 
-            System.out.println("LoginCheckFilter: " + authHeader);
-
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 token = authHeader.substring(7);
             }
@@ -42,10 +43,12 @@ public class LoginCheckFilter implements Filter {
 
             if (token != null) {
                 try {
-                    String JWTusername = jwtUtil.getUsername(token);
-                    String storedUsername = redisUtil.getData(token); // token을 key로 조회
+                    JWTClaims claims = jwtUtil.parse(token);
+                    SessionStatus status = revocationEpochs.isRevoked(claims)
+                            ? SessionStatus.UNKNOWN
+                            : redisUtil.validateSession(token, claims.getUsername());
 
-                    if (storedUsername != null && storedUsername.equals(JWTusername)) {
+                    if (status == SessionStatus.VALID) {
                         out.write("{\"status\": \"users\"}");
                     } else {
                         response.setStatus(HttpServletResponse.SC_OK);
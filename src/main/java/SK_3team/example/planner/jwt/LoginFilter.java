@@ -7,6 +7,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,6 +20,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 
+@Slf4j
 @RequiredArgsConstructor
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
@@ -34,11 +36,11 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
             Map<String, String> creds = new ObjectMapper().readValue(request.getInputStream(), Map.class);
-            System.out.println(creds);
             String username = creds.get("username");
             String password = creds.get("password");
 
-            System.out.println("Login attempt with username: " + username + ", password: " + password);
+            // 비밀번호/요청 본문은 남기지 않음
+            log.debug("로그인 시도: username={}", username);
 
             UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password);
             return authenticationManager.authenticate(authToken);
@@ -69,10 +71,11 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
         String token = jwtUtil.createJwt(username, role, userId, 60*60*1000 * 10L);
 
-        System.out.println("발행된 JWT 토큰: " + token);
+        // 토큰 원문은 남기지 않음
+        log.info("JWT 발급: username={}, userId={}", username, userId);
 
-        // Redis에 저장 (key: access:<username>, value: token, expire: expiration)
-        redisUtil.setData(token, username, 60 * 60 * 1000 * 10L);
+        // Redis에 저장 (key: session:v2:<토큰 해시>, value: username, expire: expiration)
+        redisUtil.createSession(token, username, 60 * 60 * 1000 * 10L);
 
 
         response.addHeader("Authorization", "Bearer " + token);
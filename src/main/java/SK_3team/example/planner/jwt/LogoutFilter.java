@@ -2,6 +2,9 @@
 package SK_3team.example.planner.jwt;
 
 import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.redis.SessionCache;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +19,7 @@ public class LogoutFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
     private final RedisUtil redisUtil;
+    private final SessionCache sessionCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -37,18 +41,28 @@ public class LogoutFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7);
 
-        if (jwtUtil.isExpired(token)) {
+        // 클레임은 한 번만 파싱해서 만료 확인과 남은 시간 계산에 같이 사용
+        JWTClaims claims;
+        try {
+            claims = jwtUtil.parse(token);
+        } catch (ExpiredJwtException e) {
             response.setStatus(HttpServletResponse.SC_OK);
             response.setCharacterEncoding("UTF-8");
             response.setContentType("application/json; charset=UTF-8");
             response.getWriter().write("{\"status\": \"success\", \"message\": \"이미 만료된 토큰입니다.\"}");
             return;
+        } catch (JwtException | IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType("application/json; charset=UTF-8");
+            response.getWriter().write("{\"status\": \"error\", \"error\": \"유효하지 않은 토큰입니다.\"}");
+            return;
         }
 
-        long expire = jwtUtil.extractAllClaims(token).getExpiration().getTime() - System.currentTimeMillis();
+        redisUtil.logout(token, claims.getUsername());
 
-        redisUtil.deleteData(token);
-        redisUtil.setBlackList(token, expire);
+        // 모든 노드의 로컬 캐시에서 제거 (pub/sub)
+        sessionCache.invalidate(token);
 
         response.setCharacterEncoding("UTF-8");
         response.setContentType("application/json; charset=UTF-8");
@@ -0,0 +1,37 @@
+package SK_3team.example.planner.logging;
+
+import java.util.regex.Pattern;
+
+// 로그 문자열에서 토큰/비밀번호 가리기 (코드에서 남기지 않는 것이 원칙이고, 이건 실수 대비용)
+//   Authorization: Bearer <토큰>, JWT 형태 문자열(eyJ...), password=..., "password":"..."
+public final class LogRedactor {
+
+    static final String MASK = "[REDACTED]";
+
+    private static final Pattern BEARER = Pattern.compile("(?i)(bearer\\s+)[A-Za-z0-9._~+/=-]+");
+    private static final Pattern JWT = Pattern.compile("eyJ[A-Za-z0-9_-]*\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final Pattern SECRET_FIELD = Pattern.compile(
+            "(?i)(\"?(?:password|passwd|secret|token)\"?\\s*[:=]\\s*\"?)[^\\s\",}&]+");
+
+    private LogRedactor() {
+    }
+
+    public static String redact(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        // 대부분의 로그는 해당 없음: 정규식 치환 전에 싸게 걸러냄
+        if (!mayContainSecret(value)) {
+            return value;
+        }
+        String redacted = BEARER.matcher(value).replaceAll("$1" + MASK);
+        redacted = JWT.matcher(redacted).replaceAll(MASK);
+        return SECRET_FIELD.matcher(redacted).replaceAll("$1" + MASK);
+    }
+
+    private static boolean mayContainSecret(String value) {
+        String lower = value.toLowerCase();
+        return lower.contains("bearer") || value.contains("eyJ") || lower.contains("password")
+                || lower.contains("passwd") || lower.contains("secret") || lower.contains("token");
+    }
+}
@@ -0,0 +1,15 @@
+package SK_3team.example.planner.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.boot.logging.structured.StructuredLoggingJsonMembersCustomizer;
+
+// 구조화(JSON) 로그의 모든 문자열 값(메시지, 스택트레이스, MDC 등)에 LogRedactor 적용
+// logging.structured.json.customizer 로 등록 (StructuredLogEncoder 가 생성)
+public class RedactingJsonMembersCustomizer implements StructuredLoggingJsonMembersCustomizer<ILoggingEvent> {
+
+    @Override
+    public void customize(JsonWriter.Members<ILoggingEvent> members) {
+        members.applyingValueProcessor(JsonWriter.ValueProcessor.of(String.class, LogRedactor::redact));
+    }
+}
@@ -0,0 +1,81 @@
+package SK_3team.example.planner.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 로거별 로그 샘플링 (logback-spring.xml 에 등록, 값은 planner.logging.sampling)
+// rates: "로거이름=비율,..." 예) "org.hibernate.SQL=0.01,SK_3team.example.planner.jwt=0.1"
+// 가장 길게 일치하는 로거 이름의 비율 적용, WARN 이상은 항상 남김
+// appender 까지 가기 전에 걸러서 메시지 포맷/큐 적재 비용도 들지 않음
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final double KEEP_ALL = 1.0;
+
+    private String rates;
+    private Map<String, Double> configured = Map.of();
+    // 로거 이름별로 계산한 비율 (로거 수만큼만 늘어남)
+    private final Map<String, Double> resolved = new ConcurrentHashMap<>();
+
+    public void setRates(String rates) {
+        this.rates = rates;
+    }
+
+    @Override
+    public void start() {
+        Map<String, Double> parsed = new HashMap<>();
+        if (rates != null) {
+            for (String entry : rates.split(",")) {
+                int separator = entry.indexOf('=');
+                if (separator <= 0) {
+                    continue;
+                }
+                String loggerName = entry.substring(0, separator).trim();
+                try {
+                    double rate = Double.parseDouble(entry.substring(separator + 1).trim());
+                    parsed.put(loggerName, Math.max(0.0, Math.min(KEEP_ALL, rate)));
+                } catch (NumberFormatException e) {
+                    addWarn("잘못된 샘플링 비율 무시: " + entry);
+                }
+            }
+        }
+        configured = Map.copyOf(parsed);
+        resolved.clear();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 같은 레벨 확인 호출(format == null)에는 관여하지 않음
+        if (!isStarted() || configured.isEmpty() || format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = resolved.computeIfAbsent(logger.getName(), this::resolve);
+        if (rate >= KEEP_ALL || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private double resolve(String loggerName) {
+        String name = loggerName;
+        while (true) {
+            Double rate = configured.get(name);
+            if (rate != null) {
+                return rate;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return KEEP_ALL;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+}
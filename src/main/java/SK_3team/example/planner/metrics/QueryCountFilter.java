@@ -0,0 +1,46 @@
+package SK_3team.example.planner.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청당 JPA 쿼리 수: planner.jpa.queries{method, uri}
+// uri 는 실제 경로 대신 매핑된 패턴(/plans/{planId} 등)을 써서 태그 값이 늘어나지 않게 함, 매핑 전에 끝난 요청(401 등)은 UNKNOWN
+// Security 필터 체인보다 먼저 실행 (필터에서 실행되는 쿼리까지 포함)
+// StreamingResponseBody 처럼 비동기 스레드에서 실행되는 쿼리는 포함되지 않음
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long queries = QueryCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("planner.jpa.queries")
+                    .description("요청당 JPA 쿼리 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
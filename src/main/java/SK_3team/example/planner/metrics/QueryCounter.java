@@ -0,0 +1,30 @@
+package SK_3team.example.planner.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 실행하는 SQL 수를 요청(스레드) 단위로 센다
+// QueryCountFilter 가 요청 시작 시 start, 끝날 때 stop 으로 꺼내서 기록
+// start 하지 않은 스레드(스케줄러, 내보내기 워커 등)에서는 세지 않음
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    public static long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql; // SQL 은 바꾸지 않음
+    }
+}
@@ -0,0 +1,62 @@
+package SK_3team.example.planner.outbox;
+
+import SK_3team.example.planner.export.ExportCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// 내보내기 캐시에서 이전 버전/삭제된 일정의 결과물을 미리 비움 (새 버전은 키가 달라서 정합성에는 영향 없음, 메모리/디스크 회수용)
+// ExportCache 는 노드마다 따로 있지만 outbox 배치는 SKIP LOCKED 로 한 노드만 가져가므로
+// 배치를 받은 노드가 Redis pub/sub 으로 제거 대상을 전파하고, 모든 노드(자신 포함)가 메시지를 받아 로컬 캐시를 비움
+// 메시지를 놓친 노드는 이전 버전이 LRU / disk-ttl 로 밀려날 때까지 남아 있을 뿐 (응답 정합성에는 영향 없음)
+@Component
+@RequiredArgsConstructor
+public class ExportCacheEventSink implements PlanEventSink, MessageListener {
+
+    public static final String EVICTION_CHANNEL = "export-cache:evict";
+
+    // 메시지 형식: planId:keepVersion,planId:keepVersion,...
+    private static final String ENTRY_DELIMITER = ",";
+    private static final String FIELD_DELIMITER = ":";
+
+    private final ExportCache exportCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public String name() {
+        return "export-cache";
+    }
+
+    @Override
+    public void deliver(List<PlanEvent> events) {
+        List<String> evictions = new ArrayList<>(events.size());
+        for (PlanEvent event : events) {
+            switch (event.type()) {
+                case DELETED -> evictions.add(event.planId() + FIELD_DELIMITER + Long.MAX_VALUE);
+                case UPDATED, CHAT_APPENDED -> evictions.add(event.planId() + FIELD_DELIMITER + event.contentVersion());
+                case CREATED -> {
+                    // 새 일정은 캐시에 없음
+                }
+            }
+        }
+        if (!evictions.isEmpty()) {
+            // 발행 실패는 예외로 올려서 relay 가 배치를 다시 전달하게 함
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, String.join(ENTRY_DELIMITER, evictions));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String entry : body.split(ENTRY_DELIMITER)) {
+            int separator = entry.indexOf(FIELD_DELIMITER);
+            exportCache.evict(Long.parseLong(entry.substring(0, separator)), Long.parseLong(entry.substring(separator + 1)));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package SK_3team.example.planner.outbox;
+
+import SK_3team.example.planner.entity.PlanOutboxEvent;
+import SK_3team.example.planner.repository.PlanOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// plan_outbox 를 배치로 읽어 모든 PlanEventSink 에 전달 (최소 한 번)
+// 배치마다 트랜잭션 하나: 미전달 행 잠금(SKIP LOCKED) -> 싱크 전달 -> delivered_at 기록 -> 커밋
+// 싱크가 실패하면 롤백되어 다음 주기에 같은 배치를 다시 전달 (순서 유지를 위해 이번 주기는 중단)
+// 진행 위치는 delivered_at 으로 관리 (id 는 커밋 순서와 달라서 "마지막 id" 만으로는 늦게 커밋된 행을 놓칠 수 있음)
+// 지표: planner.outbox.delivered{sink}, planner.outbox.failures{sink}, planner.outbox.last.delivered.id
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int PRUNE_BATCH_SIZE = 1000;
+
+    private final PlanOutboxRepository planOutboxRepository;
+    private final List<PlanEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    private final Map<String, Counter> delivered = new HashMap<>();
+    private final Map<String, Counter> failures = new HashMap<>();
+    private final AtomicLong lastDeliveredId = new AtomicLong();
+
+    public OutboxRelay(PlanOutboxRepository planOutboxRepository,
+                       List<PlanEventSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${planner.outbox.batch-size:100}") int batchSize,
+                       @Value("${planner.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                       @Value("${planner.outbox.retention:24h}") Duration retention) {
+        this.planOutboxRepository = planOutboxRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+
+        for (PlanEventSink sink : sinks) {
+            delivered.put(sink.name(), Counter.builder("planner.outbox.delivered")
+                    .description("싱크에 전달한 일정 변경 이벤트 수")
+                    .tag("sink", sink.name())
+                    .register(meterRegistry));
+            failures.put(sink.name(), Counter.builder("planner.outbox.failures")
+                    .description("싱크 전달 실패 횟수 (배치 단위)")
+                    .tag("sink", sink.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("planner.outbox.last.delivered.id", lastDeliveredId, AtomicLong::get)
+                .description("이 노드가 마지막으로 전달한 outbox id")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${planner.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer count = transactionTemplate.execute(status -> relayBatch());
+                if (count == null || count < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("outbox 이벤트 전달 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    // 전달이 끝난 이벤트 정리 (retention 이 지난 것만, 배치 단위로 삭제해서 긴 잠금을 피함)
+    @Scheduled(fixedDelayString = "${planner.outbox.prune-interval-ms:600000}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        List<Long> ids;
+        do {
+            ids = planOutboxRepository.findDeliveredIdsBefore(cutoff, PageRequest.of(0, PRUNE_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                planOutboxRepository.deleteAllByIdInBatch(ids);
+            }
+        } while (ids.size() == PRUNE_BATCH_SIZE);
+    }
+
+    private int relayBatch() {
+        List<PlanOutboxEvent> rows = planOutboxRepository.findUndeliveredForUpdate(PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<PlanEvent> events = rows.stream().map(PlanOutboxEvent::toEvent).toList();
+        for (PlanEventSink sink : sinks) {
+            try {
+                sink.deliver(events);
+            } catch (Exception e) {
+                failures.get(sink.name()).increment();
+                throw new IllegalStateException("outbox 싱크 전달 실패: " + sink.name(), e);
+            }
+            delivered.get(sink.name()).increment(events.size());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        rows.forEach(row -> row.markDelivered(now)); // 커밋 시 update (batch_size 단위로 묶임)
+        lastDeliveredId.accumulateAndGet(rows.get(rows.size() - 1).getId(), Math::max);
+        return rows.size();
+    }
+}
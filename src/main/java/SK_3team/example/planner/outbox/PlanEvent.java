@@ -0,0 +1,9 @@
+package SK_3team.example.planner.outbox;
+
+import java.time.LocalDateTime;
+
+// 싱크에 전달하는 이벤트 (엔티티/영속성 컨텍스트와 분리)
+// 최소 한 번 전달되므로 같은 id 가 다시 올 수 있음, 소비자는 id 또는 (planId, contentVersion) 으로 중복 처리
+public record PlanEvent(long id, PlanEventType type, long planId, Long userId, long contentVersion,
+                        LocalDateTime occurredAt) {
+}
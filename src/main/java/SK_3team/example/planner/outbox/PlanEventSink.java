@@ -0,0 +1,14 @@
+package SK_3team.example.planner.outbox;
+
+import java.util.List;
+
+// OutboxRelay 가 일정 변경 이벤트를 넘기는 대상 (Spring 빈으로 등록하면 자동으로 연결)
+// 예외를 던지면 배치 전체를 다시 전달하므로 다른 싱크에도 같은 이벤트가 다시 갈 수 있음
+public interface PlanEventSink {
+
+    // 지표 태그용 이름 (고정 값)
+    String name();
+
+    // events 는 id 오름차순
+    void deliver(List<PlanEvent> events) throws Exception;
+}
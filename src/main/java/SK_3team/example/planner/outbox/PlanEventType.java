@@ -0,0 +1,9 @@
+package SK_3team.example.planner.outbox;
+
+// 일정 변경 이벤트 종류 (plan_outbox.event_type 에 이름 그대로 저장)
+public enum PlanEventType {
+    CREATED,
+    UPDATED,
+    CHAT_APPENDED,
+    DELETED
+}
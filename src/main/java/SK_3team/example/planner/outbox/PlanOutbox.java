@@ -0,0 +1,32 @@
+package SK_3team.example.planner.outbox;
+
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanOutboxEvent;
+import SK_3team.example.planner.repository.PlanOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 일정 변경과 같은 트랜잭션에 outbox 행 추가 (전달은 OutboxRelay 가 백그라운드에서)
+// 쓰기 요청에서 하는 일은 insert 한 건뿐, 롤백되면 이벤트도 함께 사라짐
+@Component
+@RequiredArgsConstructor
+public class PlanOutbox {
+
+    private final PlanOutboxRepository planOutboxRepository;
+
+    // 호출하는 쪽 트랜잭션이 반드시 있어야 함 (없으면 예외)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(PlanEventType type, Plan plan) {
+        record(type, plan.getId(), plan.getUserId(), plan.getContentVersion());
+    }
+
+    // 엔티티를 로드하지 않는 경로(게스트 일정 정리 등)용
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(PlanEventType type, Long planId, Long userId, long contentVersion) {
+        planOutboxRepository.save(new PlanOutboxEvent(type, planId, userId, contentVersion, LocalDateTime.now()));
+    }
+}
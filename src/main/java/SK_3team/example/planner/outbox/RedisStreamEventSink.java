@@ -0,0 +1,49 @@
+package SK_3team.example.planner.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// 다른 서비스(검색 색인, 분석 등)용 Redis Stream 발행 (planner.outbox.redis-stream.enabled=true 일 때만)
+// 필드: id, type, planId, userId, contentVersion, occurredAt / 스트림 길이는 max-length 근처로 유지 (근사 trim)
+@Component
+@ConditionalOnProperty(name = "planner.outbox.redis-stream.enabled", havingValue = "true")
+public class RedisStreamEventSink implements PlanEventSink {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String streamKey;
+    private final long maxLength;
+
+    public RedisStreamEventSink(StringRedisTemplate stringRedisTemplate,
+                                @Value("${planner.outbox.redis-stream.key:planner:plan-events}") String streamKey,
+                                @Value("${planner.outbox.redis-stream.max-length:100000}") long maxLength) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.streamKey = streamKey;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public String name() {
+        return "redis-stream";
+    }
+
+    @Override
+    public void deliver(List<PlanEvent> events) {
+        for (PlanEvent event : events) {
+            Map<String, String> fields = Map.of(
+                    "id", String.valueOf(event.id()),
+                    "type", event.type().name(),
+                    "planId", String.valueOf(event.planId()),
+                    "userId", event.userId() != null ? String.valueOf(event.userId()) : "",
+                    "contentVersion", String.valueOf(event.contentVersion()),
+                    "occurredAt", event.occurredAt().toString());
+            stringRedisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(streamKey));
+        }
+        stringRedisTemplate.opsForStream().trim(streamKey, maxLength, true);
+    }
+}
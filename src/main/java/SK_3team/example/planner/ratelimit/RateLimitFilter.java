@@ -0,0 +1,121 @@
+package SK_3team.example.planner.ratelimit;
+
+import SK_3team.example.planner.dto.ErrorResponseDto;
+import SK_3team.example.planner.guest.GuestKeys;
+import SK_3team.example.planner.jwt.JWTClaims;
+import SK_3team.example.planner.redis.SessionCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// 인증 없이 호출 가능한 경로(/plans/start, /plans/save, /plans/export/** 등)의 요청 수 제한
+// Security 필터 체인(JWTFilter)보다 먼저 실행, 초과 시 429 + Retry-After(초) 로 바로 응답 (DB 조회 없음)
+// 버킷 키: 규칙의 key 기준, 값이 없으면 GUEST_KEY -> USER -> IP 순으로 대체
+//   USER 는 로컬 세션 캐시에 있는(이미 검증된) 토큰만 사용, 서명 검증/Redis 세션 조회는 하지 않음
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // QueryCountFilter 다음
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final SessionCache sessionCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || "OPTIONS".equals(request.getMethod()); // CORS preflight 제외
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (!matches(route, request.getMethod(), path)) {
+                continue;
+            }
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(route, resolveKey(route.getKey(), request));
+            if (!decision.allowed()) {
+                reject(response, decision.retryAfterMs());
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Route route, String method, String path) {
+        if (!route.getMethods().isEmpty() && route.getMethods().stream().noneMatch(method::equalsIgnoreCase)) {
+            return false;
+        }
+        for (String pattern : route.getPaths()) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveKey(RateLimitProperties.KeyType type, HttpServletRequest request) {
+        if (type == RateLimitProperties.KeyType.GUEST_KEY) {
+            String guestKey = request.getParameter("guestKey");
+            if (GuestKeys.toBytes(guestKey) != null) { // 형식이 맞는 키만 (임의 문자열로 버킷을 늘리지 못하게)
+                return "g:" + guestKey.toLowerCase();
+            }
+        }
+        if (type != RateLimitProperties.KeyType.IP) {
+            Long userId = cachedUserId(request);
+            if (userId != null) {
+                return "u:" + userId;
+            }
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    private Long cachedUserId(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        JWTClaims claims = sessionCache.get(authorization.substring(7));
+        return claims != null ? claims.getUserId() : null;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                // 마지막 값이 바로 앞 프록시가 붙인 주소 (앞쪽 값은 클라이언트가 임의로 보낼 수 있음)
+                return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMs) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMs + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), new ErrorResponseDto("error", HttpStatus.TOO_MANY_REQUESTS.value(),
+                "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요."));
+    }
+}
@@ -0,0 +1,65 @@
+package SK_3team.example.planner.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// planner.rate-limit.* (경로별 규칙 목록이라 @Value 대신 바인딩)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "planner.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // false 면 노드별 로컬 버킷만 사용 (노드 수만큼 한도가 늘어남)
+    private boolean redisEnabled = true;
+
+    // 프록시 뒤에서만 true (프록시가 붙인 X-Forwarded-For 마지막 값을 클라이언트 IP 로 사용)
+    private boolean trustForwardedFor = false;
+
+    private long localMaximumSize = 100_000;
+
+    // 요청 경로에 맞는 규칙을 모두 적용 (하나라도 초과하면 429)
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String name;
+
+        // AntPathMatcher 패턴, 예) /**/plans/export/** (/spring 접두사 포함 경로도 매칭)
+        private List<String> paths = new ArrayList<>();
+
+        // 비어 있으면 모든 메서드
+        private List<String> methods = new ArrayList<>();
+
+        private KeyType key = KeyType.IP;
+
+        // period 동안 limit 건, 순간적으로는 burst 건까지 허용
+        private int limit;
+        private Duration period = Duration.ofMinutes(1);
+        private Integer burst;
+
+        // 요청 한 건당 간격 (GCRA emission interval)
+        public long emissionIntervalMs() {
+            return Math.max(1, period.toMillis() / Math.max(1, limit));
+        }
+
+        public long burstToleranceMs() {
+            return emissionIntervalMs() * (burst != null ? Math.max(1, burst) : Math.max(1, limit));
+        }
+    }
+
+    // 버킷을 나누는 기준, 값을 구할 수 없으면 다음 기준으로 (GUEST_KEY -> USER -> IP)
+    public enum KeyType {
+        IP, USER, GUEST_KEY
+    }
+}
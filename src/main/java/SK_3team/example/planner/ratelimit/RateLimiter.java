@@ -0,0 +1,135 @@
+package SK_3team.example.planner.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA(Generic Cell Rate Algorithm) 토큰 버킷: 키마다 TAT(다음 요청이 이론상 도착할 시각) 하나만 저장
+//   요청 허용 조건: max(TAT, now) + 간격 - now <= burst 허용폭, 허용되면 TAT 를 한 간격만큼 뒤로
+// Redis 의 TAT 가 기준 (모든 노드 공용), 로컬 캐시(localTats)는 마지막으로 본 Redis TAT
+//   localTats 에는 Redis 응답만 반영하므로 항상 Redis TAT 이하 -> 로컬에서 초과면 Redis 를 묻지 않고 바로 거부 (남용 클라이언트가 Redis 부하를 만들지 않음)
+//   Redis 오류 시 별도 버킷(fallbackTats)만으로 판단 (노드별 한도로 동작), 복구되면 다시 Redis 기준으로 판단하고 fallback 버킷은 만료되도록 둠
+//   redis-enabled=false 이면 localTats 가 유일한 버킷
+// 지표: planner.ratelimit.decisions{route, outcome}
+@Slf4j
+@Component
+public class RateLimiter {
+
+    // KEYS[1]: 버킷 키 / ARGV[1]: 간격(ms), ARGV[2]: burst 허용폭(ms)
+    // 반환: {허용 1/0, 재시도까지 남은 ms, TAT - now(ms)}  (시각은 Redis TIME 기준, 노드 간 시계 차이 영향 없음)
+    private static final RedisScript<List<Long>> GCRA_SCRIPT = new DefaultRedisScript<>(
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "local interval = tonumber(ARGV[1]) " +
+            "local tolerance = tonumber(ARGV[2]) " +
+            "local tat = tonumber(redis.call('GET', KEYS[1])) or now " +
+            "if tat < now then tat = now end " +
+            "local newTat = tat + interval " +
+            "if newTat - now > tolerance then return {0, newTat - now - tolerance, tat - now} end " +
+            "redis.call('SET', KEYS[1], newTat, 'PX', newTat - now) " +
+            "return {1, 0, newTat - now}",
+            longList());
+
+    private static final String KEY_PREFIX = "rate:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, AtomicLong> localTats;
+    private final Cache<String, AtomicLong> fallbackTats;
+
+    public RateLimiter(RedisTemplate<String, Object> redisTemplate,
+                       RateLimitProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        long maxToleranceMs = properties.getRoutes().stream()
+                .mapToLong(RateLimitProperties.Route::burstToleranceMs)
+                .max().orElse(60_000);
+        this.localTats = newBucketCache(maxToleranceMs);
+        this.fallbackTats = newBucketCache(maxToleranceMs);
+    }
+
+    private Cache<String, AtomicLong> newBucketCache(long maxToleranceMs) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterAccess(Duration.ofMillis(maxToleranceMs)) // 그 이후엔 TAT 가 이미 지나서 버킷이 가득 찬 상태와 같음
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<List<Long>> longList() {
+        return (Class<List<Long>>) (Class<?>) List.class;
+    }
+
+    public record Decision(boolean allowed, long retryAfterMs) {
+    }
+
+    public Decision tryAcquire(RateLimitProperties.Route route, String key) {
+        String bucket = KEY_PREFIX + route.getName() + ":" + key;
+        long interval = route.emissionIntervalMs();
+        long tolerance = route.burstToleranceMs();
+        AtomicLong localTat = localTats.get(bucket, k -> new AtomicLong());
+        long now = System.currentTimeMillis();
+
+        long localRetry = Math.max(localTat.get(), now) + interval - now - tolerance;
+        if (localRetry > 0) {
+            record(route, "rejected-local");
+            return new Decision(false, localRetry);
+        }
+        if (!properties.isRedisEnabled()) {
+            return acquireLocal(route, localTat, interval, tolerance);
+        }
+
+        List<Long> result;
+        try {
+            result = redisTemplate.execute(GCRA_SCRIPT, List.of(bucket), String.valueOf(interval), String.valueOf(tolerance));
+        } catch (RuntimeException e) {
+            log.debug("rate limit Redis 조회 실패, 로컬 버킷으로 판단", e);
+            record(route, "redis-error");
+            return acquireLocal(route, fallbackTats.get(bucket, k -> new AtomicLong()), interval, tolerance);
+        }
+        if (result == null || result.size() < 3) {
+            record(route, "redis-error");
+            return acquireLocal(route, fallbackTats.get(bucket, k -> new AtomicLong()), interval, tolerance);
+        }
+
+        boolean allowed = result.get(0) == 1;
+        long retryAfterMs = result.get(1);
+        long tatAhead = result.get(2);
+        // 호출 전 시각 기준으로 환산 (Redis 는 그 이후에 평가했으므로 Redis TAT 를 넘지 않음)
+        localTat.accumulateAndGet(now + tatAhead, Math::max); // Redis 기준으로 로컬 버킷 동기화
+        record(route, allowed ? "allowed" : "rejected");
+        return new Decision(allowed, retryAfterMs);
+    }
+
+    private Decision acquireLocal(RateLimitProperties.Route route, AtomicLong localTat, long interval, long tolerance) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            long tat = localTat.get();
+            long newTat = Math.max(tat, now) + interval;
+            if (newTat - now > tolerance) {
+                record(route, "rejected-local");
+                return new Decision(false, newTat - now - tolerance);
+            }
+            if (localTat.compareAndSet(tat, newTat)) {
+                record(route, "allowed-local");
+                return new Decision(true, 0);
+            }
+        }
+    }
+
+    private void record(RateLimitProperties.Route route, String outcome) {
+        meterRegistry.counter("planner.ratelimit.decisions", "route", route.getName(), "outcome", outcome).increment();
+    }
+}
@@ -1,9 +1,20 @@
 package SK_3team.example.planner.redis;
 
+import SK_3team.example.planner.dto.UserSessionDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 // Redis: key:value값을 login 할 때 자동으로 저장되게
@@ -11,8 +22,63 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 @Service
 public class RedisUtil {
+
+    // 로그인: 세션 저장 + 사용자별 세션 인덱스(ZSET) 갱신
+    // KEYS[1]: 세션 키, KEYS[2]: 인덱스 키 / ARGV[1]: username, ARGV[2]: sid, ARGV[3]: TTL(ms), ARGV[4]: 현재시각(ms)
+    private static final RedisScript<Long> CREATE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = tonumber(ARGV[3]) " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ttl) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[4]) " +
+            "redis.call('ZADD', KEYS[2], tonumber(ARGV[4]) + ttl, ARGV[2]) " +
+            "if redis.call('PTTL', KEYS[2]) < ttl then redis.call('PEXPIRE', KEYS[2], ttl) end " +
+            "return 1",
+            Long.class);
+
+    // 세션 조회를 한 번의 왕복으로 처리 (로그아웃/강제종료는 세션 키 삭제 + 사용자별 revoke 기준시각으로 판단)
+    // KEYS[1]: 세션 키, KEYS[2]: 인덱스 키, (선택) KEYS[3]: v1 세션 키
+    // ARGV[1]: 토큰의 username, ARGV[2]: sid, ARGV[3]: 현재시각(ms)
+    // v2 키가 없고 v1 키가 있으면 남은 TTL 그대로 v2로 옮김 (재로그인 없이 마이그레이션)
+    private static final RedisScript<String> VALIDATE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "local stored = redis.call('GET', KEYS[1]) " +
+            "if not stored and #KEYS > 2 then " +
+            "  stored = redis.call('GET', KEYS[3]) " +
+            "  if stored and stored == ARGV[1] then " +
+            "    local ttl = redis.call('PTTL', KEYS[3]) " +
+            "    if ttl > 0 then " +
+            "      redis.call('SET', KEYS[1], stored, 'PX', ttl) " +
+            "      redis.call('ZADD', KEYS[2], tonumber(ARGV[3]) + ttl, ARGV[2]) " +
+            "      if redis.call('PTTL', KEYS[2]) < ttl then redis.call('PEXPIRE', KEYS[2], ttl) end " +
+            "      redis.call('DEL', KEYS[3]) " +
+            "    end " +
+            "  end " +
+            "end " +
+            "if not stored then return 'UNKNOWN' end " +
+            "if stored ~= ARGV[1] then return 'MISMATCHED' end " +
+            "return 'VALID'",
+            String.class);
+
+    // 세션 삭제 + 인덱스 제거를 원자적으로 처리 (토큰별 블랙리스트 키는 만들지 않음)
+    // KEYS[1]: 세션 키, KEYS[2]: 인덱스 키, (선택) KEYS[3]: v1 세션 키 / ARGV[1]: sid
+    private static final RedisScript<Long> LOGOUT_SCRIPT = new DefaultRedisScript<>(
+            "local deleted = redis.call('DEL', KEYS[1]) " +
+            "if #KEYS > 2 then deleted = deleted + redis.call('DEL', KEYS[3]) end " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "return deleted",
+            Long.class);
+
+    // 분산 락 해제: 내가 잡은 락(토큰 일치)일 때만 삭제 (TTL 만료 후 다른 노드가 잡은 락을 지우지 않도록)
+    // KEYS[1]: 락 키 / ARGV[1]: 토큰
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
+    // v1 키(토큰 원문) 조회/이관 여부. 배포 후 최대 토큰 수명(10시간)이 지나면 false로 꺼도 됨
+    @Value("${spring.jwt.session.legacy-key-fallback:true}")
+    private boolean legacyKeyFallback;
+
     public void setData(String key, String value, Long expiredTime){
         redisTemplate.opsForValue().set(key, value, expiredTime, TimeUnit.MILLISECONDS);
     }
@@ -25,13 +91,84 @@ public class RedisUtil {
         redisTemplate.delete(key);
     }
 
-    // 블랙리스트 등록
-    public void setBlackList(String token, Long expiredTimeMs) {
-        redisTemplate.opsForValue().set("blacklist:" + token, "logout", expiredTimeMs, TimeUnit.MILLISECONDS);
+    // 로그인 세션 저장 (v2 키 + 사용자별 인덱스)
+    public void createSession(String token, String username, long expiredTimeMs) {
+        String sessionId = SessionKeys.sessionId(token);
+        redisTemplate.execute(CREATE_SESSION_SCRIPT,
+                List.of(SessionKeys.session(sessionId), SessionKeys.userIndex(username)),
+                username, sessionId, String.valueOf(expiredTimeMs), String.valueOf(System.currentTimeMillis()));
+    }
+
+    // JWTFilter용: 세션 GET (+ v1 키 이관) 을 Lua 스크립트 한 번으로
+    public SessionStatus validateSession(String token, String username) {
+        String sessionId = SessionKeys.sessionId(token);
+        List<String> keys = new ArrayList<>(List.of(SessionKeys.session(sessionId), SessionKeys.userIndex(username)));
+        if (legacyKeyFallback) {
+            keys.add(SessionKeys.legacySession(token));
+        }
+        String result = redisTemplate.execute(VALIDATE_SESSION_SCRIPT, keys,
+                username, sessionId, String.valueOf(System.currentTimeMillis()));
+        return result == null ? SessionStatus.UNKNOWN : SessionStatus.valueOf(result);
+    }
+
+    // 로그아웃: 세션 키 삭제와 인덱스 제거를 한 번에 실행
+    public void logout(String token, String username) {
+        String sessionId = SessionKeys.sessionId(token);
+        List<String> keys = new ArrayList<>(List.of(SessionKeys.session(sessionId), SessionKeys.userIndex(username)));
+        if (legacyKeyFallback) {
+            keys.add(SessionKeys.legacySession(token));
+        }
+        redisTemplate.execute(LOGOUT_SCRIPT, keys, sessionId);
+    }
+
+    // 사용자의 유효한 세션 목록
+    public List<UserSessionDto> getSessions(String username) {
+        Set<ZSetOperations.TypedTuple<Object>> entries = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(SessionKeys.userIndex(username), System.currentTimeMillis(), Double.MAX_VALUE);
+        List<UserSessionDto> sessions = new ArrayList<>();
+        if (entries == null) {
+            return sessions;
+        }
+        for (ZSetOperations.TypedTuple<Object> entry : entries) {
+            LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(entry.getScore().longValue()), ZoneId.systemDefault());
+            sessions.add(new UserSessionDto((String) entry.getValue(), expiresAt));
+        }
+        return sessions;
+    }
+
+    // 사용자의 모든 세션 강제 종료 + 기준시각 이전에 발급된 토큰 거부, 종료된 세션 ID 목록 반환
+    // 세션 키는 sid 마다 slot 이 달라서 한 스크립트에서 만들어 지울 수 없음 (Cluster 에서 미선언 키 접근 불가)
+    // -> 키마다 명령을 나눠서 실행: 기준시각 SET -> 인덱스 조회 -> 세션 키 DEL -> 인덱스에서 제거
+    // 기준시각을 먼저 기록하므로 중간에 실패해도 기존 토큰은 거부됨 (남은 키는 TTL 로 만료)
+    public List<String> revokeAllSessions(String username, long revokedBeforeMs, long ttlMs) {
+        setData(SessionKeys.revokedBefore(username), String.valueOf(revokedBeforeMs), ttlMs);
+
+        String indexKey = SessionKeys.userIndex(username);
+        Set<Object> members = redisTemplate.opsForZSet().range(indexKey, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<String> sessionIds = members.stream().map(String::valueOf).toList();
+        redisTemplate.delete(sessionIds.stream().map(SessionKeys::session).toList());
+        redisTemplate.opsForZSet().remove(indexKey, sessionIds.toArray());
+        return sessionIds;
+    }
+
+    // 사용자별 revoke 기준시각(ms), 없으면 0
+    public long getRevokedBefore(String username) {
+        String value = getData(SessionKeys.revokedBefore(username));
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    // 분산 락 획득 (SET NX PX), 노드 하나에서만 돌아야 하는 스케줄 작업용
+    public boolean tryLock(String key, String token, long ttlMs) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttlMs, TimeUnit.MILLISECONDS));
     }
 
-    public boolean isBlackListed(String token) {
-        return redisTemplate.hasKey("blacklist:" + token);
+    public boolean unlock(String key, String token) {
+        Long released = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(key), token);
+        return released != null && released > 0;
     }
 
     // logincheck
@@ -0,0 +1,93 @@
+package SK_3team.example.planner.redis;
+
+import SK_3team.example.planner.jwt.JWTClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+// 사용자별 revoke 기준시각(revoked-before) 로컬 캐시
+// 기준시각 이전에 발급(iat)된 토큰은 토큰별 블랙리스트 키 없이 O(1)로 거부
+// 강제 로그아웃 시 Redis pub/sub으로 모든 노드의 캐시를 갱신
+// LoadingCache 로더는 ConcurrentHashMap.compute 안(synchronized)에서 실행되어 Redis 조회 동안 가상 스레드가 캐리어에 고정됨
+// -> 캐시 밖에서 조회한 뒤 putIfAbsent (같은 사용자 동시 조회는 중복될 수 있음)
+@Component
+public class RevocationEpochs implements MessageListener {
+
+    public static final String REVOCATION_CHANNEL = "session:revoke-user";
+
+    private final RedisUtil redisUtil;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SessionCache sessionCache;
+    private final Duration tokenLifetime;
+    private final Cache<String, Long> epochs;
+
+    public RevocationEpochs(RedisUtil redisUtil,
+                            RedisTemplate<String, Object> redisTemplate,
+                            SessionCache sessionCache,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.jwt.revocation.maximum-size:100000}") long maximumSize,
+                            @Value("${spring.jwt.revocation.refresh-ttl:30s}") Duration refreshTtl,
+                            @Value("${spring.jwt.revocation.token-lifetime:10h}") Duration tokenLifetime) {
+        this.redisUtil = redisUtil;
+        this.redisTemplate = redisTemplate;
+        this.sessionCache = sessionCache;
+        this.tokenLifetime = tokenLifetime;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(refreshTtl)   // pub/sub 메시지를 놓쳐도 이 시간 안에는 반영
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, epochs, "jwt.revocation");
+    }
+
+    public boolean isRevoked(JWTClaims claims) {
+        if (claims.getIssuedAt() == null) {
+            return false;
+        }
+        return claims.getIssuedAt().getTime() < getEpoch(claims.getUsername());
+    }
+
+    private long getEpoch(String username) {
+        Long epoch = epochs.getIfPresent(username);
+        if (epoch != null) {
+            return epoch;
+        }
+        long loaded = redisUtil.getRevokedBefore(username);
+        // 조회 중에 revokeAll 이 넣은 값이 있으면 그 값을 유지
+        Long current = epochs.asMap().putIfAbsent(username, loaded);
+        return current != null ? current : loaded;
+    }
+
+    // 비밀번호 변경, 보안 사고 등으로 사용자의 모든 세션을 끊을 때 사용
+    public long revokeAll(String username) {
+        // iat는 초 단위로 잘려서 저장되므로 기준시각도 초 단위로 내림
+        // 같은 초에 이미 발급된 토큰은 세션 키 삭제로 함께 끊김
+        long revokedBefore = (System.currentTimeMillis() / 1000) * 1000;
+
+        // 기준시각 키는 토큰 최대 수명 동안만 유지 (그 이전 토큰은 어차피 만료)
+        List<String> sessionIds = redisUtil.revokeAllSessions(username, revokedBefore, tokenLifetime.toMillis());
+
+        epochs.put(username, revokedBefore);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, username);
+        // 같은 초에 발급된 토큰은 기준시각으로 걸러지지 않으므로 모든 노드의 세션 캐시에서도 제거
+        sessionCache.invalidateSessions(sessionIds);
+        return sessionIds.size();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // 다음 요청에서 Redis 값을 다시 읽도록 제거
+        epochs.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package SK_3team.example.planner.redis;
+
+import SK_3team.example.planner.jwt.JWTClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Redis 세션 조회 앞단의 로컬 캐시
+// key: 세션 ID(토큰 해시, SessionKeys.sessionId), value: 검증된 클레임 / TTL은 설정값과 토큰 남은 만료시간 중 짧은 쪽
+// 로그아웃/강제 로그아웃 시 Redis pub/sub으로 모든 노드의 엔트리를 제거
+@Component
+public class SessionCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "session:invalidate";
+    private static final String SESSION_ID_DELIMITER = ",";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, JWTClaims> cache;
+
+    public SessionCache(RedisTemplate<String, Object> redisTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${spring.jwt.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${spring.jwt.cache.max-ttl:60s}") Duration maxTtl) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, JWTClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JWTClaims claims, long currentTime) {
+                        long remaining = TimeUnit.MILLISECONDS.toNanos(Math.max(claims.getRemainingMillis(), 0));
+                        return Math.min(remaining, maxTtl.toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JWTClaims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JWTClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // /actuator/metrics/cache.gets?tag=cache:jwt.session 등으로 hit/miss 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.session");
+    }
+
+    public JWTClaims get(String token) {
+        JWTClaims claims = cache.getIfPresent(SessionKeys.sessionId(token));
+        if (claims != null && claims.isExpired()) {
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String token, JWTClaims claims) {
+        cache.put(SessionKeys.sessionId(token), claims);
+    }
+
+    // 로컬 엔트리 제거 + 다른 노드에도 전파
+    public void invalidate(String token) {
+        String sessionId = SessionKeys.sessionId(token);
+        cache.invalidate(sessionId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, sessionId);
+    }
+
+    // 강제 로그아웃용: 세션 ID 목록을 메시지 하나로 전파 (sid 는 base64url 이라 ',' 가 없음)
+    public void invalidateSessions(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(sessionIds);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(SESSION_ID_DELIMITER, sessionIds));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        cache.invalidateAll(List.of(body.split(SESSION_ID_DELIMITER)));
+    }
+}
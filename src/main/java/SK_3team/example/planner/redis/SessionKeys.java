@@ -0,0 +1,48 @@
+package SK_3team.example.planner.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 로그인 세션 관련 Redis 키 규칙 (v2)
+// 토큰 원문(수백 바이트) 대신 SHA-256 앞 16바이트(base64url 22자)를 세션 ID로 사용
+//   session:v2:<sid>              -> username
+//   user-sessions:v2:<username>   -> ZSET(member: sid, score: 만료시각 ms)
+//   revoked-before:v2:<username>  -> 이 시각(ms) 이전에 발급된 토큰은 모두 거부
+// v1(기존) 키: <token> -> username (로그아웃은 세션 키 삭제로 처리하므로 블랙리스트 키는 더 이상 쓰지 않음)
+public final class SessionKeys {
+
+    public static final String SESSION_PREFIX = "session:v2:";
+    public static final String USER_INDEX_PREFIX = "user-sessions:v2:";
+    public static final String REVOKED_BEFORE_PREFIX = "revoked-before:v2:";
+
+    private SessionKeys() {
+    }
+
+    public static String sessionId(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String session(String sessionId) {
+        return SESSION_PREFIX + sessionId;
+    }
+
+    public static String userIndex(String username) {
+        return USER_INDEX_PREFIX + username;
+    }
+
+    public static String revokedBefore(String username) {
+        return REVOKED_BEFORE_PREFIX + username;
+    }
+
+    public static String legacySession(String token) {
+        return token;
+    }
+}
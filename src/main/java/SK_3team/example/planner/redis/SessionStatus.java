@@ -0,0 +1,8 @@
+package SK_3team.example.planner.redis;
+
+// RedisUtil.validateSession 결과
+public enum SessionStatus {
+    VALID,          // 로그인 세션이 있고 username 일치
+    UNKNOWN,        // 세션 키 없음 (만료 또는 로그아웃)
+    MISMATCHED      // 세션은 있지만 토큰의 username과 다름
+}
@@ -0,0 +1,40 @@
+package SK_3team.example.planner.repository;
+
+import SK_3team.example.planner.entity.PlanChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 모든 조회는 uk_plan_chat_messages_plan_seq (plan_id, seq) 인덱스 범위 스캔
+@Repository
+public interface PlanChatMessageRepository extends JpaRepository<PlanChatMessage, Long> {
+
+    // afterSeq 다음 턴부터 오래된 순으로 (이어서 읽기)
+    @Query("select m from PlanChatMessage m where m.planId = :planId and m.seq > :afterSeq order by m.seq asc")
+    List<PlanChatMessage> findWindowAfter(@Param("planId") Long planId, @Param("afterSeq") int afterSeq, Pageable pageable);
+
+    // beforeSeq 이전 턴을 최신 순으로 (최근 대화 / 위로 스크롤)
+    @Query("select m from PlanChatMessage m where m.planId = :planId and m.seq < :beforeSeq order by m.seq desc")
+    List<PlanChatMessage> findWindowBefore(@Param("planId") Long planId, @Param("beforeSeq") int beforeSeq, Pageable pageable);
+
+    // 내보내기용 전체 대화
+    @Query("select m from PlanChatMessage m where m.planId = :planId order by m.seq asc")
+    List<PlanChatMessage> findAllByPlanId(@Param("planId") Long planId);
+
+    // 일괄 내보내기용: 일정 여러 개의 대화를 한 번에 (일정별 -> 턴 순서)
+    @Query("select m from PlanChatMessage m where m.planId in :planIds order by m.planId asc, m.seq asc")
+    List<PlanChatMessage> findAllByPlanIdIn(@Param("planIds") List<Long> planIds);
+
+    @Modifying
+    @Query("delete from PlanChatMessage m where m.planId = :planId")
+    int deleteByPlanId(@Param("planId") Long planId);
+
+    @Modifying
+    @Query("delete from PlanChatMessage m where m.planId in :planIds")
+    int deleteByPlanIdIn(@Param("planIds") List<Long> planIds);
+}
@@ -0,0 +1,29 @@
+package SK_3team.example.planner.repository;
+
+import SK_3team.example.planner.entity.PlanOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 조회는 idx_plan_outbox_delivered (delivered_at, id) 인덱스 사용
+@Repository
+public interface PlanOutboxRepository extends JpaRepository<PlanOutboxEvent, Long> {
+
+    // 아직 전달하지 않은 이벤트를 id 순으로 잠금 (FOR UPDATE SKIP LOCKED: 여러 노드의 relay 가 서로 다른 행을 가져감)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from PlanOutboxEvent e where e.deliveredAt is null order by e.id asc")
+    List<PlanOutboxEvent> findUndeliveredForUpdate(Pageable pageable);
+
+    @Query("select e.id from PlanOutboxEvent e where e.deliveredAt < :cutoff order by e.id asc")
+    List<Long> findDeliveredIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -1,15 +1,38 @@
 package SK_3team.example.planner.repository;
 
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import SK_3team.example.planner.dto.projection.IdleGuestPlan;
+import SK_3team.example.planner.dto.projection.PlanVersion;
 import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.guest.GuestKeys;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlanRepository extends JpaRepository<Plan, Long> {
+
+    String SELECT_SUMMARY = "select new SK_3team.example.planner.dto.projection.PlanSummary(" +
+            "p.id, p.title, p.start, p.end, p.createdAt, p.guestKey) from Plan p ";
+
+    String SELECT_EXPORT = "select new SK_3team.example.planner.dto.PlanExportDto(" +
+            "p.id, p.guestKey, p.contentVersion, p.title, p.start, p.end, d.aiChatContent, p.lastChatSeq) " +
+            "from Plan p left join p.planDetail d ";
+
     // 특정 날짜(start_time 기준)의 일정을 가져오기
     List<Plan> findByStartBetween(LocalDateTime startOfDay, LocalDateTime endOfDay);
 
@@ -22,10 +45,119 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
     // 특정 userId와 Plan ID에 해당하는 단일 일정을 찾는 메서드 (상세보기 시)
     Optional<Plan> findByIdAndUserId(Long id, Long userId);
 
-    // 게스트 키로 일정을 찾는 메서드
-    Optional<Plan> findByGuestKey(String guestKey);
+    // 목록 조회: plans 컬럼만 select (Plan 엔티티를 로드하면 역방향 @OneToOne planDetail 때문에 행마다 select가 추가됨)
+    @Query(SELECT_SUMMARY + "where p.userId = :userId order by p.start asc, p.id asc")
+    List<PlanSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    // 게스트 일정 정리: 마지막 저장 후 cutoff 가 지난 게스트 일정을 (modified_at, id) 순 keyset 으로 잠금
+    // idx_plans_guest_idle (user_id, modified_at) 사용, SKIP LOCKED 로 사용 중인(잠긴) 일정은 이번 배치에서 제외
+    // 엔티티 대신 프로젝션으로 읽음 (Plan 을 로드하면 잠금 중에 행마다 plan_details select 가 추가됨)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select new SK_3team.example.planner.dto.projection.IdleGuestPlan(p.id, p.modifiedAt, p.contentVersion) " +
+            "from Plan p where p.userId is null and p.modifiedAt < :cutoff " +
+            "and (p.modifiedAt > :afterModifiedAt or (p.modifiedAt = :afterModifiedAt and p.id > :afterId)) " +
+            "order by p.modifiedAt asc, p.id asc")
+    List<IdleGuestPlan> findIdleGuestPlansForUpdate(@Param("cutoff") LocalDateTime cutoff,
+                                                    @Param("afterModifiedAt") LocalDateTime afterModifiedAt,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
+    // plan_details 는 FK 에 cascade 가 없어서 plans 보다 먼저 삭제
+    @Modifying
+    @Query("delete from PlanDetail d where d.plan.id in :planIds")
+    int deleteDetailsByPlanIds(@Param("planIds") List<Long> planIds);
+
+    // plan_details / plan_chat_messages 를 먼저 삭제한 뒤 호출
+    @Modifying
+    @Query("delete from Plan p where p.id in :ids and p.userId is null")
+    int deleteGuestPlansByIds(@Param("ids") List<Long> ids);
+
+    // 상세 조회/내보내기/수정: plan + plan_details 를 fetch join 한 번으로
+    @Query("select p from Plan p left join fetch p.planDetail where p.id = :id")
+    Optional<Plan> findWithDetailById(@Param("id") Long id);
+
+    @Query("select p from Plan p left join fetch p.planDetail where p.id = :id and p.userId = :userId")
+    Optional<Plan> findWithDetailByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 게스트 키 조회는 uk_plans_guest_key_bin (BINARY(16)) 으로, 파라미터는 GuestKeyConverter 가 16바이트로 바꿔서 바인딩
+    // UUID 형식이 아닌 키는 쿼리 없이 빈 결과
+    default Optional<Plan> findWithDetailByGuestKey(String guestKey) {
+        return GuestKeys.toBytes(guestKey) == null ? Optional.empty() : findWithDetailByValidGuestKey(guestKey);
+    }
+
+    @Query("select p from Plan p left join fetch p.planDetail where p.guestKey = :guestKey")
+    Optional<Plan> findWithDetailByValidGuestKey(@Param("guestKey") String guestKey);
+
+    // AI 대화 턴 추가: 턴 번호 할당 동안 plans 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Plan p left join fetch p.planDetail where p.id = :id and p.userId = :userId")
+    Optional<Plan> findForUpdateByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    default Optional<Plan> findForUpdateByGuestKey(String guestKey) {
+        return GuestKeys.toBytes(guestKey) == null ? Optional.empty() : findForUpdateByValidGuestKey(guestKey);
+    }
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Plan p left join fetch p.planDetail where p.guestKey = :guestKey")
+    Optional<Plan> findForUpdateByValidGuestKey(@Param("guestKey") String guestKey);
+
+    // 내보내기 ETag/캐시 확인용: plan_details 없이 권한 확인에 필요한 값 + 버전만 조회
+    @Query("select new SK_3team.example.planner.dto.projection.PlanVersion(p.id, p.userId, p.contentVersion) " +
+            "from Plan p where p.id = :id and p.userId = :userId")
+    Optional<PlanVersion> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    default Optional<PlanVersion> findVersionByGuestKey(String guestKey) {
+        return GuestKeys.toBytes(guestKey) == null ? Optional.empty() : findVersionByValidGuestKey(guestKey);
+    }
+
+    @Query("select new SK_3team.example.planner.dto.projection.PlanVersion(p.id, p.userId, p.contentVersion) " +
+            "from Plan p where p.guestKey = :guestKey")
+    Optional<PlanVersion> findVersionByValidGuestKey(@Param("guestKey") String guestKey);
+
+    // 캘린더 월/주 단위 조회: idx_plans_user_start 인덱스 범위 스캔 한 번
+    @Query(SELECT_SUMMARY + "where p.userId = :userId and p.start between :from and :to " +
+            "order by p.start asc, p.id asc")
+    List<PlanSummary> findSummariesByUserIdAndStartBetween(@Param("userId") Long userId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
+
+    // 커서 기반 페이지 조회 (start_time, id 순). MySQL은 ASC 정렬 시 start_time이 NULL인 일정이 맨 앞에 옴
+    // 첫 페이지
+    @Query(SELECT_SUMMARY + "where p.userId = :userId order by p.start asc, p.id asc")
+    List<PlanSummary> findSummaryPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 이전 페이지 마지막 일정의 start_time이 NULL인 경우
+    @Query(SELECT_SUMMARY + "where p.userId = :userId and (p.start is not null or p.id > :id) " +
+            "order by p.start asc, p.id asc")
+    List<PlanSummary> findSummaryPageAfterNullStart(@Param("userId") Long userId,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "where p.userId = :userId and (p.start > :start or (p.start = :start and p.id > :id)) " +
+            "order by p.start asc, p.id asc")
+    List<PlanSummary> findSummaryPageAfter(@Param("userId") Long userId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    // NDJSON 스트리밍용: 전체 목록을 메모리에 올리지 않고 fetch size 단위로 읽음
+    // (MySQL은 useCursorFetch=true 일 때 서버 커서 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_SUMMARY + "where p.userId = :userId order by p.start asc, p.id asc")
+    Stream<PlanSummary> streamSummariesByUserId(@Param("userId") Long userId);
+
+    // 일괄 내보내기 대상: 내보낼 순서(start, id)대로 id 만 읽음 (idx_plans_user_start 로 plans 행을 읽지 않고 처리)
+    @Query("select p.id from Plan p where p.userId = :userId and p.start between :from and :to order by p.start asc, p.id asc")
+    List<Long> findExportIdsByUserIdAndStartBetween(@Param("userId") Long userId,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    @Query("select p.id from Plan p where p.userId = :userId and p.id in :ids order by p.start asc, p.id asc")
+    List<Long> findExportIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") List<Long> ids);
 
-    // 게스트 키와 userId가 NULL인 일정을 찾는 메서드 (게스트 전용 일정 확인용)
-    Optional<Plan> findByGuestKeyAndUserIdIsNull(String guestKey);
+    // 일괄 내보내기 윈도우: plan_details 를 조인해서 렌더링에 필요한 값만 (쿼리 한 번, 순서는 호출한 쪽에서 맞춤)
+    @Query(SELECT_EXPORT + "where p.userId = :userId and p.id in :ids")
+    List<PlanExportDto> findExportsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") List<Long> ids);
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package SK_3team.example.planner.service;
+
+import SK_3team.example.planner.dto.PlanChatAppendRequestDto;
+import SK_3team.example.planner.dto.PlanChatMessageDto;
+import SK_3team.example.planner.dto.PlanChatWindowDto;
+import SK_3team.example.planner.dto.mapper.PlanMapper;
+import SK_3team.example.planner.dto.projection.PlanVersion;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanChatMessage;
+import SK_3team.example.planner.exception.AuthException;
+import SK_3team.example.planner.exception.PlanConflictException;
+import SK_3team.example.planner.exception.PlanNotFoundException;
+import SK_3team.example.planner.guest.GuestDraftStore;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+// AI 대화 턴 단위 추가/조회 (회원: planId, 게스트: guestKey)
+// 추가: plans 행을 잠그고 다음 seq 부터 새 턴만 insert, plan_details.ai_chat_content 는 다시 쓰지 않음
+// 조회: (plan_id, seq) 인덱스로 필요한 구간만 읽음
+@Service
+@Transactional(readOnly = true)
+public class PlanChatService {
+
+    private static final int DEFAULT_WINDOW_SIZE = 50;
+    private static final int MAX_WINDOW_SIZE = 200;
+    private static final int MAX_APPEND_TURNS = 50;
+    private static final int MAX_TURN_LENGTH = 20_000;
+    private static final Set<String> ROLES = Set.of("user", "ai");
+
+    private final PlanRepository planRepository;
+    private final PlanChatMessageRepository planChatMessageRepository;
+    private final PlanOutbox planOutbox;
+    private final GuestDraftStore guestDraftStore;
+
+    public PlanChatService(PlanRepository planRepository, PlanChatMessageRepository planChatMessageRepository,
+                           PlanOutbox planOutbox, GuestDraftStore guestDraftStore) {
+        this.planRepository = planRepository;
+        this.planChatMessageRepository = planChatMessageRepository;
+        this.planOutbox = planOutbox;
+        this.guestDraftStore = guestDraftStore;
+    }
+
+    @Transactional
+    public PlanChatWindowDto appendTurns(Long planId, String guestKey, Long userId, PlanChatAppendRequestDto requestDto) {
+        List<PlanChatMessageDto> turns = requestDto != null ? requestDto.getTurns() : null;
+        validateTurns(turns);
+
+        Plan plan = findPlanForUpdate(planId, guestKey, userId);
+        if (requestDto.getExpectedSeq() != null && requestDto.getExpectedSeq() != plan.getLastChatSeq()) {
+            throw new PlanConflictException("대화가 이미 변경되었습니다. (마지막 턴: " + plan.getLastChatSeq()
+                    + ", 요청: " + requestDto.getExpectedSeq() + ")");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int seq = plan.getLastChatSeq();
+        List<PlanChatMessage> messages = new ArrayList<>(turns.size());
+        for (PlanChatMessageDto turn : turns) {
+            messages.add(new PlanChatMessage(null, plan.getId(), ++seq, turn.getRole(), turn.getContent(), now));
+        }
+        planChatMessageRepository.saveAll(messages);
+
+        plan.setLastChatSeq(seq);
+        if (plan.getContentVersion() == 0) { // 저장 전 게스트 일정(빈 행 또는 방금 승격한 초안)의 첫 내용
+            planOutbox.record(PlanEventType.CREATED, plan);
+        }
+        plan.increaseContentVersion(); // 내보내기 캐시 무효화
+        planOutbox.record(PlanEventType.CHAT_APPENDED, plan);
+
+        return new PlanChatWindowDto("success", 200, plan.getId(),
+                messages.stream().map(PlanMapper::toChatMessageDto).toList(),
+                false, turns.size() + "개의 대화가 추가되었습니다.");
+    }
+
+    // afterSeq 가 있으면 그 다음부터, 없으면 beforeSeq(생략 시 최신) 이전 size 개
+    public PlanChatWindowDto getTurns(Long planId, String guestKey, Long userId,
+                                      Integer afterSeq, Integer beforeSeq, Integer size) {
+        if (afterSeq != null && beforeSeq != null) {
+            throw new IllegalArgumentException("afterSeq 와 beforeSeq 는 함께 사용할 수 없습니다.");
+        }
+        int windowSize = (size == null || size <= 0) ? DEFAULT_WINDOW_SIZE : Math.min(size, MAX_WINDOW_SIZE);
+        Long id = findReadablePlan(planId, guestKey, userId).id();
+        if (id == null) { // 저장 전 게스트 초안: 대화 없음
+            return new PlanChatWindowDto("success", 200, null, List.of(), false, "대화 조회가 완료되었습니다.");
+        }
+        PageRequest page = PageRequest.of(0, windowSize + 1); // 한 개 더 읽어서 다음 구간 유무 확인
+
+        List<PlanChatMessage> window;
+        if (afterSeq != null) {
+            window = planChatMessageRepository.findWindowAfter(id, afterSeq, page);
+        } else {
+            window = planChatMessageRepository.findWindowBefore(id, beforeSeq != null ? beforeSeq : Integer.MAX_VALUE, page);
+        }
+        boolean hasMore = window.size() > windowSize;
+        if (hasMore) {
+            window = window.subList(0, windowSize);
+        }
+        List<PlanChatMessageDto> turns = new ArrayList<>(window.stream().map(PlanMapper::toChatMessageDto).toList());
+        if (afterSeq == null) {
+            Collections.reverse(turns); // 최신 순으로 읽었으므로 오름차순으로 되돌림
+        }
+        return new PlanChatWindowDto("success", 200, id, turns, hasMore, "대화 조회가 완료되었습니다.");
+    }
+
+    private void validateTurns(List<PlanChatMessageDto> turns) {
+        if (turns == null || turns.isEmpty()) {
+            throw new IllegalArgumentException("추가할 대화가 없습니다.");
+        }
+        if (turns.size() > MAX_APPEND_TURNS) {
+            throw new IllegalArgumentException("한 번에 추가할 수 있는 대화는 최대 " + MAX_APPEND_TURNS + "개입니다.");
+        }
+        for (PlanChatMessageDto turn : turns) {
+            if (turn == null || turn.getRole() == null || !ROLES.contains(turn.getRole())) {
+                throw new IllegalArgumentException("role 은 user 또는 ai 여야 합니다.");
+            }
+            if (turn.getContent() == null || turn.getContent().isBlank() || turn.getContent().length() > MAX_TURN_LENGTH) {
+                throw new IllegalArgumentException("대화 내용은 1자 이상 " + MAX_TURN_LENGTH + "자 이하여야 합니다.");
+            }
+        }
+    }
+
+    // 권한 규칙은 내보내기와 같음: planId 는 본인 일정만, guestKey 는 게스트 본인 또는 귀속된 회원
+    private Plan findPlanForUpdate(Long planId, String guestKey, Long userId) {
+        if (planId != null) {
+            if (userId == null) {
+                throw new AuthException("로그인 없이 Plan ID로 대화를 추가할 수 없습니다. 게스트 키를 사용해주세요.");
+            }
+            return planRepository.findForUpdateByIdAndUserId(planId, userId)
+                    .orElseThrow(() -> new PlanNotFoundException("해당 회원 일정을 찾을 수 없습니다. (ID: " + planId + ", UserID: " + userId + ")"));
+        } else if (guestKey != null && !guestKey.isEmpty()) {
+            // 첫 대화 턴은 실제 내용이므로 Redis 초안이면 먼저 MySQL 로 승격 (승격한 행도 아래에서 잠금)
+            guestDraftStore.promote(guestKey);
+            Plan plan = planRepository.findForUpdateByGuestKey(guestKey)
+                    .orElseThrow(() -> new PlanNotFoundException("해당 게스트 일정을 찾을 수 없습니다. (GuestKey: " + guestKey + ")"));
+            if (plan.getUserId() != null && !plan.getUserId().equals(userId)) {
+                throw new AuthException("이 일정은 이미 다른 회원에게 귀속되었습니다.");
+            }
+            return plan;
+        } else {
+            throw new IllegalArgumentException("일정 ID 또는 게스트 키가 필요합니다.");
+        }
+    }
+
+    private PlanVersion findReadablePlan(Long planId, String guestKey, Long userId) {
+        if (planId != null) {
+            if (userId == null) {
+                throw new AuthException("로그인 없이 Plan ID로 대화를 조회할 수 없습니다. 게스트 키를 사용해주세요.");
+            }
+            return planRepository.findVersionByIdAndUserId(planId, userId)
+                    .orElseThrow(() -> new PlanNotFoundException("해당 회원 일정을 찾을 수 없습니다. (ID: " + planId + ", UserID: " + userId + ")"));
+        } else if (guestKey != null && !guestKey.isEmpty()) {
+            PlanVersion version = planRepository.findVersionByGuestKey(guestKey)
+                    .or(() -> guestDraftStore.find(guestKey).map(draft -> new PlanVersion(null, null, 0L)))
+                    .orElseThrow(() -> new PlanNotFoundException("해당 게스트 일정을 찾을 수 없습니다. (GuestKey: " + guestKey + ")"));
+            if (version.userId() != null && !version.userId().equals(userId)) {
+                throw new AuthException("이 일정은 이미 다른 회원에게 귀속되었습니다.");
+            }
+            return version;
+        } else {
+            throw new IllegalArgumentException("일정 ID 또는 게스트 키가 필요합니다.");
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package SK_3team.example.planner.service;
+
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.export.ExportFormat;
+import SK_3team.example.planner.export.PlanImageRenderer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.properties.AreaBreakType;
+
+// PDF/JPG/PNG 렌더링 전용 (트랜잭션 없음)
+// PlanService.getPlanForExport로 받은 스냅샷만 사용하므로 렌더링 중에는 DB 커넥션을 잡지 않는다
+// 지표: planner.export.render{format,outcome} 렌더링 시간, planner.export.bytes{format} 출력 크기
+//   format 은 pdf|jpg|png|batch-pdf|batch-zip 로 고정 (planId 등은 태그로 쓰지 않음)
+@Service
+public class PlanExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 일괄 내보내기 대상 공급자 (PlanService.getPlansForExport 를 윈도우마다 호출, 읽는 대로 하나씩 넘겨줌)
+    @FunctionalInterface
+    public interface PlanExportSource {
+        void forEach(Consumer<PlanExportDto> consumer);
+    }
+
+    // 지표를 남기는 렌더링 본문
+    @FunctionalInterface
+    private interface Render {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    private final PlanImageRenderer planImageRenderer;
+    private final MeterRegistry meterRegistry;
+
+    public PlanExportService(PlanImageRenderer planImageRenderer, MeterRegistry meterRegistry) {
+        this.planImageRenderer = planImageRenderer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void write(ExportFormat format, PlanExportDto plan, OutputStream outputStream) throws IOException {
+        measure(format.name().toLowerCase(Locale.ROOT), outputStream, target -> render(format, plan, target));
+    }
+
+    // 여러 일정을 하나의 PDF로 (일정마다 새 페이지), source 에서 읽는 대로 바로 씀
+    public void writeBatchPdf(PlanExportSource source, OutputStream outputStream) throws IOException {
+        measure("batch-pdf", outputStream, target -> renderBatchPdf(source, target));
+    }
+
+    // 일정별 파일(entryFormat)을 ZIP 하나로, 항목마다 렌더링 즉시 압축 스트림에 씀
+    public void writeBatchZip(PlanExportSource source, ExportFormat entryFormat, OutputStream outputStream) throws IOException {
+        measure("batch-zip", outputStream, target -> renderBatchZip(source, entryFormat, target));
+    }
+
+    private void render(ExportFormat format, PlanExportDto plan, OutputStream outputStream) throws IOException {
+        switch (format) {
+            case PDF -> writePdf(plan, outputStream);
+            case JPG -> writeJpg(plan, outputStream);
+            case PNG -> writePng(plan, outputStream);
+        }
+    }
+
+    // PDF 생성 메서드 (회원/게스트 공용)
+    // byte[]로 모으지 않고 전달받은 스트림(응답/파일)에 바로 쓴다. 스트림은 닫지 않음 (호출한 쪽 책임)
+    // Document 의 immediateFlush(기본값)로 페이지가 채워지는 대로 내보내고,
+    // 대화 내용은 줄 단위 Paragraph 로 나눠서 긴 대화도 한 번에 레이아웃하지 않도록 함
+    public void writePdf(PlanExportDto plan, OutputStream outputStream) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        PdfWriter writer = new PdfWriter(buffered);
+        writer.setCloseStream(false);
+        PdfDocument pdf = new PdfDocument(writer);
+        Document document = new Document(pdf);
+
+        addPlan(document, plan);
+        document.close(); // pdf, writer 까지 닫힘 (원본 스트림은 유지)
+        buffered.flush();
+    }
+
+    private void renderBatchPdf(PlanExportSource source, OutputStream outputStream) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        PdfWriter writer = new PdfWriter(buffered);
+        writer.setCloseStream(false);
+        PdfDocument pdf = new PdfDocument(writer);
+        Document document = new Document(pdf);
+
+        int[] count = {0};
+        source.forEach(plan -> {
+            if (count[0]++ > 0) {
+                document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            }
+            addPlan(document, plan);
+        });
+        if (count[0] == 0) {
+            document.add(new Paragraph("내보낼 일정이 없습니다.")); // 페이지가 없는 PDF는 닫을 수 없음
+        }
+        document.close();
+        buffered.flush();
+    }
+
+    // 항목별 렌더링은 render 로 직접 호출 (항목마다 지표를 따로 남기지 않음)
+    private void renderBatchZip(PlanExportSource source, ExportFormat entryFormat, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE), StandardCharsets.UTF_8);
+        zip.setLevel(Deflater.NO_COMPRESSION); // PDF 내용/JPG/PNG 는 이미 압축되어 있어 CPU만 씀
+
+        source.forEach(plan -> {
+            try {
+                zip.putNextEntry(new ZipEntry("plan_" + plan.getPlanId() + "." + entryFormat.getExtension()));
+                render(entryFormat, plan, zip);
+                zip.closeEntry();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        zip.finish(); // 원본 스트림은 닫지 않음
+        zip.flush();
+    }
+
+    private void addPlan(Document document, PlanExportDto plan) {
+        document.add(new Paragraph("Plan Title: " + plan.getTitle()));
+        document.add(new Paragraph("Start Date: " + plan.getStart()));
+        document.add(new Paragraph("End Date: " + plan.getEnd()));
+        if (plan.getAiChatContent() != null) {
+            document.add(new Paragraph("AI Chat Content:"));
+            plan.getAiChatContent().lines()
+                    .forEach(line -> document.add(new Paragraph(line)));
+        }
+    }
+
+    // JPG/PNG 생성 메서드 (회원/게스트 공용): 폰트/ImageWriter 를 재사용하는 PlanImageRenderer 에 위임
+    public void writeJpg(PlanExportDto plan, OutputStream outputStream) throws IOException {
+        planImageRenderer.write(plan, ExportFormat.JPG, outputStream);
+    }
+
+    public void writePng(PlanExportDto plan, OutputStream outputStream) throws IOException {
+        planImageRenderer.write(plan, ExportFormat.PNG, outputStream);
+    }
+
+    // 렌더링 시간과 실제로 내보낸 바이트 수 기록 (스트림은 닫지 않음)
+    private void measure(String format, OutputStream outputStream, Render render) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(outputStream);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            render.writeTo(counting);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("planner.export.render")
+                    .description("내보내기 렌더링 시간")
+                    .tag("format", format)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            if ("success".equals(outcome)) {
+                DistributionSummary.builder("planner.export.bytes")
+                        .description("내보내기 결과 크기")
+                        .baseUnit("bytes")
+                        .tag("format", format)
+                        .register(meterRegistry)
+                        .record(counting.count);
+            }
+        }
+    }
+
+    // FilterOutputStream 기본 write(byte[]) 는 한 바이트씩 넘기므로 배열 단위로 바로 위임
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush(); // 원본 스트림은 호출한 쪽에서 닫음
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package SK_3team.example.planner.service;
+
+import SK_3team.example.planner.dto.PlanImportResponseDto;
+import SK_3team.example.planner.dto.PlanRequestDto;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanDetail;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 일정 일괄 가져오기 (회원 전용, AI 서비스가 만든 일정 묶음)
+// 본문(NDJSON 또는 JSON 배열)을 한 행씩 읽으면서 chunk-size 건마다 별도 트랜잭션으로 저장
+// id 는 @TableGenerator(pooled-lo)로 미리 할당되어 hibernate.jdbc.batch_size 단위 배치 insert (MySQL 은 rewriteBatchedStatements 로 multi-row INSERT)
+// 청크 저장이 실패하면 그 청크만 한 행씩 다시 저장해서 실패한 행을 찾아냄 (앞서 저장된 청크는 유지)
+@Slf4j
+@Service
+public class PlanImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PlanOutbox planOutbox;
+    private final ObjectReader reader;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public PlanImportService(EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             PlanOutbox planOutbox,
+                             @Value("${planner.import.chunk-size:500}") int chunkSize,
+                             @Value("${planner.import.max-rows:10000}") int maxRows) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reader = objectMapper.readerFor(PlanRequestDto.class);
+        this.planOutbox = planOutbox;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    // 최상위가 배열이면 배열 요소를, 아니면 연속된 JSON 객체(NDJSON)를 차례로 읽음
+    public PlanImportResponseDto importPlans(InputStream body, Long userId) throws IOException {
+        ImportResult result = new ImportResult();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<PlanRequestDto> rows = reader.readValues(body)) {
+            for (int row = 1; ; row++) {
+                PlanRequestDto requestDto;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    requestDto = rows.nextValue();
+                } catch (JsonParseException e) {
+                    // 문법 오류 이후로는 행 경계를 알 수 없음
+                    result.fail(row, "JSON 형식이 올바르지 않아 이 행부터 처리하지 않았습니다.");
+                    break;
+                } catch (JsonMappingException e) {
+                    // 값 형식 오류는 해당 행만 건너뜀 (MappingIterator 가 다음 행으로 이동)
+                    result.total++;
+                    result.fail(row, "필드 형식이 올바르지 않습니다. (" + fieldName(e) + ")");
+                    continue;
+                }
+
+                if (row > maxRows) {
+                    result.fail(row, "한 번에 최대 " + maxRows + "건까지 가져올 수 있습니다. 이 행부터 처리하지 않았습니다.");
+                    break;
+                }
+                result.total++;
+
+                String error = validate(requestDto);
+                if (error != null) {
+                    result.fail(row, error);
+                    continue;
+                }
+
+                chunk.add(new ImportRow(row, requestDto));
+                if (chunk.size() == chunkSize) {
+                    saveChunk(chunk, userId, result);
+                    chunk.clear();
+                }
+            }
+        }
+        saveChunk(chunk, userId, result);
+        return result.toResponseDto();
+    }
+
+    private String validate(PlanRequestDto requestDto) {
+        if (requestDto == null) {
+            return "빈 행입니다.";
+        }
+        if (requestDto.getStart() == null || requestDto.getEnd() == null) {
+            return "start, end 는 필수입니다.";
+        }
+        if (requestDto.getEnd().isBefore(requestDto.getStart())) {
+            return "end 는 start 보다 빠를 수 없습니다.";
+        }
+        if (requestDto.getTitle() != null && requestDto.getTitle().length() > MAX_TEXT_LENGTH) {
+            return "title 은 " + MAX_TEXT_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        if (requestDto.getChatId() != null && requestDto.getChatId().length() > MAX_TEXT_LENGTH) {
+            return "chatId 는 " + MAX_TEXT_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        return null;
+    }
+
+    private void saveChunk(List<ImportRow> chunk, Long userId, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(chunk, userId));
+            result.imported += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("일정 가져오기 청크 저장 실패, 행 단위로 재시도 (rows {}-{})",
+                    chunk.get(0).row(), chunk.get(chunk.size() - 1).row(), e);
+            for (ImportRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(row), userId));
+                    result.imported++;
+                } catch (RuntimeException rowError) {
+                    result.fail(row.row(), "저장하지 못했습니다.");
+                }
+            }
+        }
+    }
+
+    // 청크 단위로 flush 후 영속성 컨텍스트를 비워서 메모리에 엔티티가 쌓이지 않게 함
+    private void persist(List<ImportRow> rows, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (ImportRow row : rows) {
+            Plan plan = toPlan(row.requestDto(), userId, now);
+            entityManager.persist(plan);
+            planOutbox.record(PlanEventType.CREATED, plan); // plan_outbox 도 같은 배치로 insert
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Plan toPlan(PlanRequestDto requestDto, Long userId, LocalDateTime now) {
+        Plan plan = new Plan();
+        plan.setUserId(userId);
+        plan.setCreatedAt(now);
+        plan.setTitle(requestDto.getTitle());
+        plan.setStart(requestDto.getStart());
+        plan.setEnd(requestDto.getEnd());
+
+        PlanDetail planDetail = new PlanDetail();
+        planDetail.setAiChatContent(requestDto.getAiChatContent());
+        planDetail.setChatId(requestDto.getChatId());
+        plan.setPlanDetail(planDetail);
+
+        plan.increaseContentVersion();
+        return plan;
+    }
+
+    private static String fieldName(JsonMappingException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        if (path.isEmpty() || path.get(path.size() - 1).getFieldName() == null) {
+            return "알 수 없는 필드";
+        }
+        return path.get(path.size() - 1).getFieldName();
+    }
+
+    private record ImportRow(int row, PlanRequestDto requestDto) {
+    }
+
+    private static final class ImportResult {
+
+        private int total;
+        private int imported;
+        private final List<PlanImportResponseDto.RowError> errors = new ArrayList<>();
+        private int failed;
+
+        void fail(int row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new PlanImportResponseDto.RowError(row, message));
+            }
+        }
+
+        PlanImportResponseDto toResponseDto() {
+            if (failed == 0) {
+                return new PlanImportResponseDto("success", 200, total, imported, 0, errors,
+                        imported + "건의 일정을 가져왔습니다.");
+            }
+            String status = imported > 0 ? "partial" : "error";
+            int code = imported > 0 ? 200 : 400;
+            return new PlanImportResponseDto(status, code, total, imported, failed, errors,
+                    imported + "건을 가져왔고 " + failed + "건은 실패했습니다.");
+        }
+    }
+}
@@ -1,80 +1,212 @@
 package SK_3team.example.planner.service;
 
 import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanChatMessage;
 import SK_3team.example.planner.entity.PlanDetail;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
 import SK_3team.example.planner.repository.PlanRepository;
 import SK_3team.example.planner.dto.PlanResponseDto;
 import SK_3team.example.planner.dto.PlanDetailResponseDto;
 import SK_3team.example.planner.dto.PlanRequestDto;
+import SK_3team.example.planner.dto.PlanPageResponseDto;
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.dto.mapper.PlanMapper;
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import SK_3team.example.planner.dto.projection.PlanVersion;
 import SK_3team.example.planner.exception.PlanNotFoundException;
 import SK_3team.example.planner.exception.AuthException;
+import SK_3team.example.planner.guest.GuestDraft;
+import SK_3team.example.planner.guest.GuestDraftStore;
+import SK_3team.example.planner.guest.GuestKeys;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.UUID; // UUID 사용
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Optional; // Optional 임포트 추가
 
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.layout.Document;
-import com.itextpdf.layout.element.Paragraph;
-
 
+// 메서드별 실행 시간: planner.plan.service{class, method, exception}
 @Service
+@Timed(value = "planner.plan.service", percentiles = {0.5, 0.95, 0.99})
 @Transactional(readOnly = true)
 public class PlanService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_RANGE_DAYS = 62;
+    private static final int MAX_BATCH_PLAN_IDS = 100;
+    private static final int EXPORT_WINDOW_SIZE = 50; // 대화 턴을 한 번에 읽을 일정 수 (IN 목록 길이)
+
     private final PlanRepository planRepository;
+    private final PlanChatMessageRepository planChatMessageRepository;
+    private final PlanOutbox planOutbox;
+    private final GuestDraftStore guestDraftStore;
 
-    public PlanService(PlanRepository planRepository) {
+    public PlanService(PlanRepository planRepository, PlanChatMessageRepository planChatMessageRepository,
+                       PlanOutbox planOutbox, GuestDraftStore guestDraftStore) {
         this.planRepository = planRepository;
+        this.planChatMessageRepository = planChatMessageRepository;
+        this.planOutbox = planOutbox;
+        this.guestDraftStore = guestDraftStore;
     }
 
     // 모든 일정 조회 (회원 전용)
     public List<PlanResponseDto> getAllPlansForUser(Long userId) {
-        List<Plan> plans = planRepository.findByUserId(userId); // PlanRepository에 findByUserId 메서드가 있다고 가정
+        List<PlanSummary> plans = planRepository.findSummariesByUserId(userId); // plan_details는 조회하지 않음
         return plans.stream()
-                .map(this::convertToPlanResponseDto)
+                .map(PlanMapper::fromSummary)
+                .collect(Collectors.toList());
+    }
+
+    // 커서 기반 페이지 조회 (회원 전용): (start_time, id) 순서로 size개씩
+    public PlanPageResponseDto getPlansPageForUser(Long userId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PlanSummary> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = planRepository.findSummaryPage(userId, limit);
+        } else {
+            PageCursor after = decodeCursor(cursor);
+            if (after.start() == null) {
+                rows = planRepository.findSummaryPageAfterNullStart(userId, after.id(), limit);
+            } else {
+                rows = planRepository.findSummaryPageAfter(userId, after.start(), after.id(), limit);
+            }
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = encodeCursor(rows.get(pageSize - 1));
+        }
+
+        List<PlanResponseDto> plans = rows.stream()
+                .map(PlanMapper::fromSummary)
                 .collect(Collectors.toList());
+        return new PlanPageResponseDto("success", 200, plans, nextCursor, "일정 목록 조회가 완료되었습니다");
+    }
+
+    // 전체 일정을 한 건씩 consumer로 전달 (NDJSON 스트리밍용, 목록을 메모리에 모으지 않음)
+    public void streamAllPlansForUser(Long userId, Consumer<PlanResponseDto> consumer) {
+        try (Stream<PlanSummary> plans = planRepository.streamSummariesByUserId(userId)) {
+            plans.map(PlanMapper::fromSummary).forEach(consumer);
+        }
     }
 
     public List<PlanResponseDto> getPlansByDateForUser(Long userId, LocalDate date) { // ⭐ userId가 먼저 오도록 통일
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-        List<Plan> plans = planRepository.findByUserIdAndStartBetween(userId, startOfDay, endOfDay);
+        List<PlanSummary> plans = planRepository.findSummariesByUserIdAndStartBetween(userId, startOfDay, endOfDay);
         return plans.stream()
-                .map(this::convertToPlanResponseDto)
+                .map(PlanMapper::fromSummary)
                 .collect(Collectors.toList());
     }
 
+    // 기간(월/주) 일정을 날짜별로 묶어서 조회 (회원 전용) - 쿼리 한 번
+    public Map<LocalDate, List<PlanResponseDto>> getPlansByRangeForUser(Long userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        List<PlanSummary> plans = planRepository.findSummariesByUserIdAndStartBetween(
+                userId, from.atStartOfDay(), to.atTime(LocalTime.MAX));
+        return plans.stream()
+                .collect(Collectors.groupingBy(
+                        plan -> plan.start().toLocalDate(),
+                        TreeMap::new,
+                        Collectors.mapping(PlanMapper::fromSummary, Collectors.toList())));
+    }
+
+    // 일괄 내보내기 조건 확인: 기간(from~to) 또는 일정 ID 목록 중 하나
+    // 응답 스트리밍 전에 getExportWindows 에서 확인, 실패는 IllegalArgumentException (GlobalExceptionHandler 에서 400)
+    public void validateBatchExport(LocalDate from, LocalDate to, List<Long> planIds) {
+        if (planIds != null && !planIds.isEmpty()) {
+            if (from != null || to != null) {
+                throw new IllegalArgumentException("기간과 일정 ID 목록은 함께 사용할 수 없습니다.");
+            }
+            if (planIds.size() > MAX_BATCH_PLAN_IDS) {
+                throw new IllegalArgumentException("한 번에 내보낼 수 있는 일정은 최대 " + MAX_BATCH_PLAN_IDS + "개입니다.");
+            }
+            return;
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("기간(from, to) 또는 일정 ID 목록이 필요합니다.");
+        }
+        validateRange(from, to);
+    }
+
+    // 일괄 내보내기 (회원 전용) 1단계: 대상 일정 id 를 내보낼 순서대로 EXPORT_WINDOW_SIZE 개씩 나눔 (id 만 읽음)
+    // 렌더링 중에 트랜잭션/커서를 열어 두지 않도록 호출한 쪽에서 윈도우마다 getPlansForExport 로 따로 읽고 렌더링
+    public List<List<Long>> getExportWindows(Long userId, LocalDate from, LocalDate to, List<Long> planIds) {
+        validateBatchExport(from, to, planIds);
+        List<Long> ids = (planIds != null && !planIds.isEmpty())
+                ? planRepository.findExportIdsByUserIdAndIdIn(userId, planIds)
+                : planRepository.findExportIdsByUserIdAndStartBetween(userId, from.atStartOfDay(), to.atTime(LocalTime.MAX));
+        List<List<Long>> windows = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += EXPORT_WINDOW_SIZE) {
+            windows.add(ids.subList(i, Math.min(i + EXPORT_WINDOW_SIZE, ids.size())));
+        }
+        return windows;
+    }
+
+    // 2단계: 윈도우 하나의 스냅샷 (일정 + plan_details 쿼리 한 번, 대화 턴 IN 쿼리 한 번을 같은 읽기 트랜잭션에서)
+    // 순서는 getExportWindows 의 id 순서, 그 사이 삭제된 일정은 빠짐
+    public List<PlanExportDto> getPlansForExport(Long userId, List<Long> planIds) {
+        Map<Long, PlanExportDto> byId = planRepository.findExportsByUserIdAndIdIn(userId, planIds).stream()
+                .collect(Collectors.toMap(PlanExportDto::getPlanId, plan -> plan));
+        List<PlanExportDto> window = planIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return withChatTurns(window);
+    }
+
     public PlanDetailResponseDto getPlanDetailByIdForUser(Long id, Long userId) {
-        Plan plan = planRepository.findByIdAndUserId(id, userId)
+        Plan plan = planRepository.findWithDetailByIdAndUserId(id, userId)
                 .orElseThrow(() -> new PlanNotFoundException("해당 일정을 찾을 수 없습니다. (ID: " + id + ", UserID: " + userId + ")"));
-        return convertToPlanDetailResponseDto(plan);
+        // /plans/chat 으로 추가된 턴까지 합쳐서 내보내기와 같은 대화 내용을 돌려줌 (턴이 없는 일정은 추가 조회 없음)
+        List<PlanChatMessage> turns = plan.getLastChatSeq() == 0 ? List.of() : planChatMessageRepository.findAllByPlanId(id);
+        return PlanMapper.toPlanDetailResponseDto(plan, turns);
     }
 
     // ** 추가: 임시 계획 시작 (게스트 키 발급) 메서드 **
     @Transactional
     public PlanResponseDto startGuestPlan() {
         Plan plan = new Plan();
-        String guestKey = UUID.randomUUID().toString();
+        String guestKey = GuestKeys.newKey(); // UUIDv7 (시간 순)
         plan.setGuestKey(guestKey);
         plan.setUserId(null); // 게스트 플랜은 userId가 null
         plan.setCreatedAt(LocalDateTime.now());
         plan.setPlanDetail(null); // PlanDetail은 나중에 save 할 때 연결
 
+        // 빈 행이라 이벤트는 남기지 않음, 첫 저장/대화 때 CREATED 로 기록
         Plan savedPlan = planRepository.save(plan);
-        return convertToPlanResponseDto(savedPlan);
+        return PlanMapper.toPlanResponseDto(savedPlan);
+    }
+
+    // 게스트 키만 발급하고 Redis 초안으로 보관 (planner.guest.deferred-persistence), 트랜잭션/DB 커넥션을 쓰지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PlanResponseDto startGuestDraft() {
+        return PlanMapper.toPlanResponseDto(guestDraftStore.create().toPlan());
     }
 
     // ** 변경: 기존 createPlan 대신 savePlan으로 변경 (또는 updatePlanDetails 등) **
@@ -86,7 +218,9 @@ public class PlanService {
 
         if (guestKeyFromRequest != null && !guestKeyFromRequest.isEmpty()) {
             // Case 1: 요청에 guestKey가 있는 경우 (기존 게스트 일정 로드)
-            plan = planRepository.findByGuestKey(guestKeyFromRequest)
+            // Redis 초안이면 먼저 MySQL 로 승격 (첫 저장 또는 회원 귀속 시 insert)
+            guestDraftStore.promote(guestKeyFromRequest);
+            plan = findForSave(guestKeyFromRequest, requestDto)
                     .orElseThrow(() -> new PlanNotFoundException("해당 게스트 일정을 찾을 수 없습니다. (GuestKey: " + guestKeyFromRequest + ")"));
 
             // 게스트 키로 찾은 일정이 이미 회원에게 귀속된 경우
@@ -108,7 +242,7 @@ public class PlanService {
         } else {
             // Case 3: guestKey도 없고 userId도 없는 경우 (게스트 새 일정 생성)
             plan = new Plan();
-            String generatedGuestKey = UUID.randomUUID().toString(); // 새로운 guestKey 생성
+            String generatedGuestKey = GuestKeys.newKey(); // 새로운 guestKey 생성
             plan.setGuestKey(generatedGuestKey);
             plan.setUserId(null);
             plan.setCreatedAt(LocalDateTime.now());
@@ -125,21 +259,50 @@ public class PlanService {
             plan.setPlanDetail(planDetail);
             planDetail.setPlan(plan);
         }
-        planDetail.setAiChatContent(requestDto.getAiChatContent());
+        // 대화는 /plans/chat 으로 턴 단위 추가, 전체 내용을 보낸 경우에만 기존 컬럼을 덮어씀 (null 이면 유지)
+        if (requestDto.getAiChatContent() != null) {
+            replaceChatContent(plan, planDetail, requestDto.getAiChatContent());
+        }
         // planDetail에 chatId 필드가 있다면 추가 (PlanRequestDto에 chatId가 있어야 함)
          if (requestDto.getChatId() != null) {
              planDetail.setChatId(requestDto.getChatId());
          }
 
+        // 새 일정 또는 /plans/start 로 만든 빈 행(contentVersion 0)의 첫 저장이면 CREATED
+        boolean created = plan.getId() == null || plan.getContentVersion() == 0;
+        plan.increaseContentVersion(); // 내보내기 캐시 무효화
+
         Plan savedPlan = planRepository.save(plan);
-        return convertToPlanResponseDto(savedPlan);
+        planOutbox.record(created ? PlanEventType.CREATED : PlanEventType.UPDATED, savedPlan);
+        return PlanMapper.toPlanResponseDto(savedPlan);
     }
 
 
 
+    private Optional<Plan> findForSave(String guestKey, PlanRequestDto requestDto) {
+        // 전체 대화를 덮어쓰는 경우 턴 추가(PlanChatService.appendTurns)와 겹치지 않도록 행을 잠그고 읽음
+        return requestDto.getAiChatContent() != null
+                ? planRepository.findForUpdateByGuestKey(guestKey)
+                : planRepository.findWithDetailByGuestKey(guestKey);
+    }
+
+    // 보낸 전체 대화가 새 본문: 턴 단위로 추가된 대화는 이미 본문에 들어 있는 것으로 보고 삭제
+    // (상세 조회 결과를 그대로 다시 저장해도 상세/내보내기에서 턴이 두 번 나오지 않음)
+    // lastChatSeq 가 0 으로 돌아가므로 이전 expectedSeq 로 턴을 추가하던 클라이언트는 409 를 받고 다시 조회함
+    private void replaceChatContent(Plan plan, PlanDetail planDetail, String aiChatContent) {
+        planDetail.setAiChatContent(aiChatContent);
+        if (plan.getLastChatSeq() > 0) {
+            planChatMessageRepository.deleteByPlanId(plan.getId());
+            plan.setLastChatSeq(0);
+        }
+    }
+
     @Transactional
     public PlanResponseDto updatePlan(Long id, PlanRequestDto requestDto, Long userId) {
-        Plan plan = planRepository.findByIdAndUserId(id, userId)
+        // 전체 대화를 덮어쓰는 경우 턴 추가(PlanChatService.appendTurns)와 겹치지 않도록 행을 잠그고 읽음
+        Plan plan = (requestDto.getAiChatContent() != null
+                ? planRepository.findForUpdateByIdAndUserId(id, userId)
+                : planRepository.findWithDetailByIdAndUserId(id, userId))
                 .orElseThrow(() -> new PlanNotFoundException("수정할 일정을 찾을 수 없습니다. (ID: " + id + ", UserID: " + userId + ")"));
 
         plan.setTitle(requestDto.getTitle());
@@ -152,19 +315,25 @@ public class PlanService {
             plan.setPlanDetail(planDetail);
             planDetail.setPlan(plan);
         }
-        planDetail.setAiChatContent(requestDto.getAiChatContent());
+        // 대화는 /plans/chat 으로 턴 단위 추가, 전체 내용을 보낸 경우에만 기존 컬럼을 덮어씀 (null 이면 유지)
+        if (requestDto.getAiChatContent() != null) {
+            replaceChatContent(plan, planDetail, requestDto.getAiChatContent());
+        }
         // planDetail에 chatId 필드가 있다면 추가 (PlanRequestDto에 chatId가 있어야 함)
          if (requestDto.getChatId() != null) {
              planDetail.setChatId(requestDto.getChatId());
          }
 
+        plan.increaseContentVersion(); // 내보내기 캐시 무효화
+
         Plan updatedPlan = planRepository.save(plan);
-        return convertToPlanResponseDto(updatedPlan);
+        planOutbox.record(PlanEventType.UPDATED, updatedPlan);
+        return PlanMapper.toPlanResponseDto(updatedPlan);
     }
 
     @Transactional
     public void deletePlan(Long planId, Long userId) {
-        Plan plan = planRepository.findById(planId)
+        Plan plan = planRepository.findWithDetailById(planId)
                 .orElseThrow(() -> new PlanNotFoundException("삭제할 일정을 찾을 수 없습니다. (ID: " + planId + ")"));
 
         if (plan.getUserId() == null) { // 게스트 일정을 회원이 삭제 시도
@@ -174,90 +343,86 @@ public class PlanService {
             throw new AuthException("해당 일정을 삭제할 권한이 없습니다.");
         }
 
+        planOutbox.record(PlanEventType.DELETED, plan);
+        planChatMessageRepository.deleteByPlanId(planId); // FK: 대화 턴 먼저 삭제
         planRepository.delete(plan);
     }
 
-    // PDF 생성 메서드 (회원/게스트 공용)
-    @Transactional(readOnly = true)
-    public byte[] generatePlanPdf(Long planId, String guestKey, Long userId) throws IOException { // IOException 추가
+    // 내보내기용 스냅샷 조회 (회원/게스트 공용)
+    // 렌더링은 PlanExportService에서 트랜잭션/DB 커넥션 밖에서 처리
+    public PlanExportDto getPlanForExport(Long planId, String guestKey, Long userId) {
         Plan plan = findPlanForExport(planId, guestKey, userId); // 공통 로직으로 일정 찾기
+        String aiChatContent = (plan.getPlanDetail() != null) ? plan.getPlanDetail().getAiChatContent() : null;
+        return withChatTurns(new PlanExportDto(plan.getId(), plan.getGuestKey(), plan.getContentVersion(),
+                plan.getTitle(), plan.getStart(), plan.getEnd(), aiChatContent, plan.getLastChatSeq()));
+    }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(baos);
-        PdfDocument pdf = new PdfDocument(writer);
-        Document document = new Document(pdf);
-
-        document.add(new Paragraph("Plan Title: " + plan.getTitle()));
-        document.add(new Paragraph("Start Date: " + plan.getStart()));
-        document.add(new Paragraph("End Date: " + plan.getEnd()));
-        if (plan.getPlanDetail() != null && plan.getPlanDetail().getAiChatContent() != null) {
-            document.add(new Paragraph("AI Chat Content: " + plan.getPlanDetail().getAiChatContent()));
+    // 턴 단위로 추가된 대화가 있으면 기존 내용 뒤에 이어 붙임 (턴이 없는 일정은 추가 조회 없음)
+    private PlanExportDto withChatTurns(PlanExportDto plan) {
+        if (plan.getLastChatSeq() == 0) {
+            return plan;
         }
-        document.close();
-        pdf.close();
-        writer.close();
+        return withTranscript(plan, planChatMessageRepository.findAllByPlanId(plan.getPlanId()));
+    }
 
-        return baos.toByteArray();
+    // 윈도우 안에서 턴이 있는 일정만 모아 plan_id IN (...) 한 번으로 조회 (턴이 없으면 추가 조회 없음)
+    private List<PlanExportDto> withChatTurns(List<PlanExportDto> window) {
+        List<Long> planIds = window.stream()
+                .filter(plan -> plan.getLastChatSeq() > 0)
+                .map(PlanExportDto::getPlanId)
+                .toList();
+        if (planIds.isEmpty()) {
+            return window;
+        }
+        Map<Long, List<PlanChatMessage>> turnsByPlan = planChatMessageRepository.findAllByPlanIdIn(planIds).stream()
+                .collect(Collectors.groupingBy(PlanChatMessage::getPlanId));
+        return window.stream()
+                .map(plan -> plan.getLastChatSeq() == 0 ? plan
+                        : withTranscript(plan, turnsByPlan.getOrDefault(plan.getPlanId(), List.of())))
+                .toList();
     }
 
-    // JPG 생성 메서드 (회원/게스트 공용)
-    @Transactional(readOnly = true)
-    public byte[] generatePlanJpg(Long planId, String guestKey, Long userId) throws IOException { // IOException 추가
-        Plan plan = findPlanForExport(planId, guestKey, userId); // 공통 로직으로 일정 찾기
+    private PlanExportDto withTranscript(PlanExportDto plan, List<PlanChatMessage> turns) {
+        String transcript = PlanMapper.toTranscript(plan.getAiChatContent(), turns);
+        return new PlanExportDto(plan.getPlanId(), plan.getGuestKey(), plan.getContentVersion(),
+                plan.getTitle(), plan.getStart(), plan.getEnd(), transcript, plan.getLastChatSeq());
+    }
 
-        int width = 800;
-        int height = 600;
-        BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g2d = bufferedImage.createGraphics();
-
-        // 배경 설정
-        g2d.setColor(Color.WHITE);
-        g2d.fillRect(0, 0, width, height);
-
-        // 텍스트 설정
-        g2d.setColor(Color.BLACK);
-        g2d.setFont(new Font("Malgun Gothic", Font.BOLD, 24)); // 한글 폰트 (예시, 시스템에 설치된 폰트 사용)
-
-        int y = 50;
-        g2d.drawString("Plan Title: " + plan.getTitle(), 50, y);
-        y += 30;
-        g2d.drawString("Start Date: " + plan.getStart(), 50, y);
-        y += 30;
-        g2d.drawString("End Date: " + plan.getEnd(), 50, y);
-        y += 30;
-        if (plan.getPlanDetail() != null && plan.getPlanDetail().getAiChatContent() != null) {
-            g2d.setFont(new Font("Malgun Gothic", Font.PLAIN, 16));
-            g2d.drawString("AI Chat Content:", 50, y);
-            y += 20;
-            // 긴 내용은 여러 줄로 나누어 그리기
-            String content = plan.getPlanDetail().getAiChatContent();
-            // 간단하게 줄바꿈 처리 (실제로는 더 복잡한 로직 필요)
-            int charLimit = 80; // 한 줄에 표시할 최대 문자 수
-            for (int i = 0; i < content.length(); i += charLimit) {
-                String line = content.substring(i, Math.min(i + charLimit, content.length()));
-                g2d.drawString(line, 50, y += 20);
+    // 내보내기 ETag/캐시 확인용: findPlanForExport 와 같은 권한 규칙, plan_details 는 읽지 않음
+    public PlanVersion getPlanVersionForExport(Long planId, String guestKey, Long userId) {
+        if (planId != null) {
+            if (userId == null) {
+                throw new IllegalArgumentException("로그인 없이 Plan ID로 일정을 조회할 수 없습니다. 게스트 키를 사용해주세요.");
+            }
+            return planRepository.findVersionByIdAndUserId(planId, userId)
+                    .orElseThrow(() -> new PlanNotFoundException("해당 회원 일정을 찾을 수 없습니다. (ID: " + planId + ", UserID: " + userId + ")"));
+        } else if (guestKey != null && !guestKey.isEmpty()) {
+            // 저장 전 초안은 id 가 없음 (캐시/ETag 없이 빈 일정으로 렌더링)
+            PlanVersion version = planRepository.findVersionByGuestKey(guestKey)
+                    .or(() -> guestDraftStore.find(guestKey).map(draft -> new PlanVersion(null, null, 0L)))
+                    .orElseThrow(() -> new PlanNotFoundException("해당 게스트 일정을 찾을 수 없습니다. (GuestKey: " + guestKey + ")"));
+            if (version.userId() != null && userId != null && !version.userId().equals(userId)) {
+                throw new AuthException("해당 게스트 일정을 조회할 권한이 없습니다. (이미 다른 회원에게 귀속)");
             }
+            return version;
+        } else {
+            throw new IllegalArgumentException("일정 ID 또는 게스트 키가 필요합니다.");
         }
-
-        g2d.dispose();
-
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(bufferedImage, "jpg", baos); // IOException이 발생할 수 있음
-        return baos.toByteArray();
     }
 
     // PDF/JPG 내보내기 시 일정을 찾는 공통 로직
     private Plan findPlanForExport(Long planId, String guestKey, Long userId) {
         if (planId != null) { // Plan ID가 제공된 경우 (회원 일정 또는 회원 계정으로 게스트 일정 조회)
             if (userId != null) {
-                return planRepository.findByIdAndUserId(planId, userId)
+                return planRepository.findWithDetailByIdAndUserId(planId, userId)
                         .orElseThrow(() -> new PlanNotFoundException("해당 회원 일정을 찾을 수 없습니다. (ID: " + planId + ", UserID: " + userId + ")"));
             } else {
                 // 로그인하지 않은 상태에서 planId로 요청 -> 잘못된 요청 또는 게스트 키를 사용해야 함
                 throw new IllegalArgumentException("로그인 없이 Plan ID로 일정을 조회할 수 없습니다. 게스트 키를 사용해주세요.");
             }
         } else if (guestKey != null && !guestKey.isEmpty()) { // Guest Key가 제공된 경우
-            Optional<Plan> planOptional = planRepository.findByGuestKey(guestKey);
+            Optional<Plan> planOptional = planRepository.findWithDetailByGuestKey(guestKey)
+                    .or(() -> guestDraftStore.find(guestKey).map(GuestDraft::toPlan)); // 초안은 저장하지 않고 빈 일정으로
             if (planOptional.isPresent()) {
                 Plan plan = planOptional.get();
                 // 게스트 키로 찾은 일정이 회원에게 귀속된 경우, 요청한 userId와 일치하는지 확인
@@ -274,36 +439,37 @@ public class PlanService {
     }
 
 
-    // DTO 변환 메서드들
-    private PlanResponseDto convertToPlanResponseDto(Plan plan) {
-        return new PlanResponseDto(
-                "success",
-                200,
-                plan.getStart(),
-                plan.getEnd(),
-                plan.getCreatedAt(),
-                plan.getTitle(),
-                plan.getId(),
-                plan.getGuestKey(), // ⭐ guestKey 포함
-                "캘린더 생성 및 저장이 완료되었습니다"
-        );
+    // 잘못된 기간은 클라이언트 오류 (IllegalArgumentException -> GlobalExceptionHandler 에서 400)
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
     }
 
-    private PlanDetailResponseDto convertToPlanDetailResponseDto(Plan plan) {
-        String aiChatContent = (plan.getPlanDetail() != null) ? plan.getPlanDetail().getAiChatContent() : null;
-        String chatId = (plan.getPlanDetail() != null) ? plan.getPlanDetail().getChatId() : null; // ⭐ chatId 추가 (PlanDetail에 chatId 필드가 있다면)
-
-        return new PlanDetailResponseDto(
-                "success",
-                200,
-                plan.getId(),
-                plan.getTitle(),
-                plan.getStart(),
-                plan.getEnd(),
-                plan.getCreatedAt(),
-                aiChatContent,
-                chatId, // ⭐ chatId 추가 (PlanDetailResponseDto에 chatId 필드가 있다면)
-                "단일 일정 상세 조회가 완료되었습니다"
-        );
+    // 커서: base64url("<start_time ISO 또는 빈 문자열>|<id>")
+    private String encodeCursor(PlanSummary last) {
+        String raw = (last.start() != null ? last.start().toString() : "") + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식/숫자/날짜 오류는 모두 "잘못된 커서" (IllegalArgumentException -> 400)
+    private PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime start = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+            return new PageCursor(start, Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private record PageCursor(LocalDateTime start, Long id) {
     }
-}
\ No newline at end of file
+}
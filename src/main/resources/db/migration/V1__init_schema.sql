@@ -0,0 +1,36 @@
+-- 초기 스키마 (JPA 엔티티 기준)
+-- 기존 DB는 baseline-on-migrate 로 V1이 이미 적용된 것으로 처리되고, 빈 DB에서만 실행됨
+
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    username   VARCHAR(50)  NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    role       VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS plans (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(255),
+    start_time DATETIME(6),
+    end_time   DATETIME(6),
+    created_at DATETIME(6)  NOT NULL,
+    user_id    BIGINT,
+    guest_key  VARCHAR(36),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_plans_guest_key UNIQUE (guest_key)
+);
+
+CREATE TABLE IF NOT EXISTS plan_details (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    ai_chat_content TEXT,
+    chat_id         VARCHAR(255),
+    plan_id         BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_plan_details_plan_id UNIQUE (plan_id),
+    CONSTRAINT fk_plan_details_plan FOREIGN KEY (plan_id) REFERENCES plans (id)
+);
@@ -0,0 +1,3 @@
+-- 캘린더 조회(user_id + start_time 범위)용 복합 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (user_id, start_time, id) 커서 페이지 조회에도 사용됨
+CREATE INDEX idx_plans_user_start ON plans (user_id, start_time);
@@ -0,0 +1,2 @@
+-- 일정 내용 버전 (내보내기 캐시 키 / ETag)
+ALTER TABLE plans ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,33 @@
+-- plans / plan_details id 할당 테이블 (JPA @TableGenerator, pooled-lo)
+-- next_val: 다음에 할당할 블록의 시작값, 노드마다 allocationSize(50)개씩 가져감
+--
+-- 롤링 배포 중에는 이전 버전 노드(IDENTITY, AUTO_INCREMENT)와 새 노드(id_generators)가 동시에 insert 함
+--   * 생성기는 현재 최댓값 다음(MAX(id) + 1)부터 할당
+--   * AUTO_INCREMENT 는 그보다 @id_reserve 만큼 뒤로 옮겨서 이전 노드가 생성기 구간과 겹치지 않게 함
+--   * 생성기가 AUTO_INCREMENT 보다 작은 id 를 직접 넣으므로 InnoDB 카운터는 다시 당겨지지 않음
+--     (반대로 생성기를 위쪽에 두면 직접 넣은 id 가 카운터를 끌어올려서 이전 노드가 생성기의 남은 블록과 겹침)
+-- 생성기가 예약 구간(@id_reserve 개)을 다 쓰기 전에는 이전 노드가 만든 행과 만나지 않음
+-- 배포가 끝난 뒤에는 AUTO_INCREMENT 를 쓰는 노드가 없으므로 카운터 값은 더 이상 의미 없음
+CREATE TABLE IF NOT EXISTS id_generators (
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+SET @id_reserve = 1000000000000;
+
+INSERT INTO id_generators (name, next_val) SELECT 'plans', COALESCE(MAX(id), 0) + 1 FROM plans;
+INSERT INTO id_generators (name, next_val) SELECT 'plan_details', COALESCE(MAX(id), 0) + 1 FROM plan_details;
+
+-- ALTER TABLE ... AUTO_INCREMENT 는 상수만 받으므로 동적 SQL 로 실행 (메타데이터만 바뀜, 테이블 재작성 없음)
+SET @sql = (SELECT CONCAT('ALTER TABLE plans AUTO_INCREMENT = ', next_val + @id_reserve)
+            FROM id_generators WHERE name = 'plans');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = (SELECT CONCAT('ALTER TABLE plan_details AUTO_INCREMENT = ', next_val + @id_reserve)
+            FROM id_generators WHERE name = 'plan_details');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
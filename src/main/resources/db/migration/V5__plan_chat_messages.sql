@@ -0,0 +1,17 @@
+-- AI 대화를 턴 단위로 추가 저장 (plan_details.ai_chat_content 전체를 다시 쓰지 않음)
+-- 기존 ai_chat_content 는 그대로 두고, 내보내기/상세 조회 시 기존 내용 뒤에 턴을 이어 붙임
+CREATE TABLE IF NOT EXISTS plan_chat_messages (
+    id         BIGINT      NOT NULL,
+    plan_id    BIGINT      NOT NULL,
+    seq        INT         NOT NULL,
+    role       VARCHAR(20) NOT NULL,
+    content    TEXT        NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_plan_chat_messages_plan_seq UNIQUE (plan_id, seq),
+    CONSTRAINT fk_plan_chat_messages_plan FOREIGN KEY (plan_id) REFERENCES plans (id) ON DELETE CASCADE
+);
+
+ALTER TABLE plans ADD COLUMN last_chat_seq INT NOT NULL DEFAULT 0;
+
+INSERT INTO id_generators (name, next_val) VALUES ('plan_chat_messages', 1);
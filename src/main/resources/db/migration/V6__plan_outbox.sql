@@ -0,0 +1,15 @@
+-- 일정 변경 이벤트 outbox (일정 변경과 같은 트랜잭션에서 insert, OutboxRelay 가 전달 후 delivered_at 기록)
+-- 전달 위치는 id 가 아닌 delivered_at 으로 판단 (pooled-lo id 는 커밋 순서와 다를 수 있음)
+CREATE TABLE IF NOT EXISTS plan_outbox (
+    id              BIGINT      NOT NULL,
+    event_type      VARCHAR(20) NOT NULL,
+    plan_id         BIGINT      NOT NULL,
+    user_id         BIGINT      NULL,
+    content_version BIGINT      NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    delivered_at    DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    INDEX idx_plan_outbox_delivered (delivered_at, id)
+);
+
+INSERT INTO id_generators (name, next_val) VALUES ('plan_outbox', 1);
@@ -0,0 +1,7 @@
+-- 마지막 저장 시각 (게스트 일정 정리 기준), 기존 행은 생성 시각으로 채움
+ALTER TABLE plans ADD COLUMN modified_at DATETIME(6) NULL;
+UPDATE plans SET modified_at = created_at WHERE modified_at IS NULL;
+ALTER TABLE plans MODIFY COLUMN modified_at DATETIME(6) NOT NULL;
+
+-- 게스트 일정 정리: user_id IS NULL AND modified_at < ? ORDER BY modified_at, id (keyset)
+CREATE INDEX idx_plans_guest_idle ON plans (user_id, modified_at);
@@ -0,0 +1,9 @@
+-- 게스트 키를 BINARY(16) 로 저장 (VARCHAR(36) utf8mb4 유니크 인덱스 대비 키 크기 1/9 수준)
+-- guest_key 는 롤아웃 동안 유지: 이전 버전 노드는 guest_key 만 쓰므로 새 버전은 guest_key_bin 이 NULL 인 행을 guest_key 로 한 번 더 조회
+-- 모든 노드가 새 버전이 되면 남은 NULL 행을 다시 채우고 guest_key 컬럼/인덱스를 제거하는 마이그레이션을 추가
+ALTER TABLE plans ADD COLUMN guest_key_bin BINARY(16) NULL;
+
+UPDATE plans SET guest_key_bin = UNHEX(REPLACE(guest_key, '-', ''))
+WHERE guest_key IS NOT NULL AND guest_key_bin IS NULL;
+
+CREATE UNIQUE INDEX uk_plans_guest_key_bin ON plans (guest_key_bin);
@@ -0,0 +1,6 @@
+-- V8 의 마무리(contract) 단계: guest_key_bin 을 쓰는 버전이 모든 노드에 배포된 뒤에 적용
+-- 롤아웃 중 이전 버전 노드가 guest_key 만 채운 행을 다시 채우고, VARCHAR(36) 유니크 인덱스와 컬럼을 제거
+UPDATE plans SET guest_key_bin = UNHEX(REPLACE(guest_key, '-', ''))
+WHERE guest_key IS NOT NULL AND guest_key_bin IS NULL;
+
+ALTER TABLE plans DROP INDEX uk_plans_guest_key, DROP COLUMN guest_key;
@@ -0,0 +1,132 @@
+package SK_3team.example.planner.controller;
+
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.dto.projection.PlanVersion;
+import SK_3team.example.planner.exception.GlobalExceptionHandler;
+import SK_3team.example.planner.export.ExportCache;
+import SK_3team.example.planner.export.ExportFormat;
+import SK_3team.example.planner.export.ExportJobService;
+import SK_3team.example.planner.guest.GuestDraftStore;
+import SK_3team.example.planner.jwt.JWTClaims;
+import SK_3team.example.planner.service.PlanChatService;
+import SK_3team.example.planner.service.PlanExportService;
+import SK_3team.example.planner.service.PlanImportService;
+import SK_3team.example.planner.service.PlanService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 단건 내보내기: 버전 기반 ETag, If-None-Match 일치 시 렌더링/스냅샷 조회 없이 304, 캐시 히트 시 재렌더링 없음
+class PlanControllerExportTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long PLAN_ID = 1L;
+    private static final byte[] RENDERED = {37, 80, 68, 70}; // %PDF
+
+    private PlanService planService;
+    private PlanExportService planExportService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        planService = mock(PlanService.class);
+        planExportService = mock(PlanExportService.class);
+        ExportCache exportCache = new ExportCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1),
+                DataSize.ofKilobytes(64), false, System.getProperty("java.io.tmpdir"), Duration.ofHours(1));
+        PlanController controller = new PlanController(planService, planExportService, mock(ExportJobService.class),
+                exportCache, mock(PlanImportService.class), mock(PlanChatService.class), mock(GuestDraftStore.class),
+                new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        when(planService.getPlanVersionForExport(PLAN_ID, null, USER_ID)).thenReturn(new PlanVersion(PLAN_ID, USER_ID, 3L));
+        when(planService.getPlanForExport(PLAN_ID, null, USER_ID)).thenReturn(new PlanExportDto(
+                PLAN_ID, null, 3L, "plan", LocalDateTime.now(), LocalDateTime.now(), "chat", 0));
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write(RENDERED);
+            return null;
+        }).when(planExportService).write(eq(ExportFormat.PDF), any(), any());
+    }
+
+    @Test
+    void matchingIfNoneMatchReturns304WithoutRendering() throws Exception {
+        mockMvc.perform(exportPdf().header("If-None-Match", "\"1-3-pdf\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-3-pdf\""));
+
+        verify(planService, never()).getPlanForExport(any(), any(), any());
+        verify(planExportService, never()).write(any(), any(), any());
+    }
+
+    @Test
+    void staleEtagRendersNewVersion() throws Exception {
+        MvcResult result = mockMvc.perform(exportPdf().header("If-None-Match", "\"1-2-pdf\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3-pdf\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(content().bytes(RENDERED));
+    }
+
+    @Test
+    void secondRequestIsServedFromCacheWithoutSnapshotQuery() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(exportPdf()).andExpect(request().asyncStarted()).andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().bytes(RENDERED));
+        }
+
+        verify(planService, times(1)).getPlanForExport(PLAN_ID, null, USER_ID);
+        verify(planExportService, times(1)).write(any(), any(), any());
+    }
+
+    @Test
+    void planIdWithoutLoginIsRejectedBeforeRendering() throws Exception {
+        when(planService.getPlanVersionForExport(PLAN_ID, null, null))
+                .thenThrow(new IllegalArgumentException("로그인 없이 Plan ID로 일정을 조회할 수 없습니다."));
+
+        mockMvc.perform(get("/plans/export/pdf").param("planId", String.valueOf(PLAN_ID)))
+                .andExpect(status().isBadRequest());
+        verify(planExportService, never()).write(any(), any(), any());
+    }
+
+    private MockHttpServletRequestBuilder exportPdf() {
+        JWTClaims claims = new JWTClaims("alice", "ROLE_USER", USER_ID, new Date(),
+                new Date(System.currentTimeMillis() + 60_000));
+        return get("/plans/export/pdf")
+                .param("planId", String.valueOf(PLAN_ID))
+                .requestAttr(JWTClaims.ATTRIBUTE, claims);
+    }
+}
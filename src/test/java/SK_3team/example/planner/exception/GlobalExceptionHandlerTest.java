@@ -0,0 +1,23 @@
+package SK_3team.example.planner.exception;
+
+import SK_3team.example.planner.dto.ErrorResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void invalidRequestValueIsBadRequest() {
+        ResponseEntity<ErrorResponseDto> response =
+                handler.handleIllegalArgumentException(new IllegalArgumentException("잘못된 커서입니다."), null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getCode()).isEqualTo(400);
+        assertThat(response.getBody().getMessage()).isEqualTo("잘못된 커서입니다.");
+    }
+}
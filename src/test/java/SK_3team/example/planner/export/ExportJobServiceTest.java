@@ -0,0 +1,121 @@
+package SK_3team.example.planner.export;
+
+import SK_3team.example.planner.dto.ExportJobResponseDto;
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.exception.ExportJobException;
+import SK_3team.example.planner.service.PlanExportService;
+import SK_3team.example.planner.service.PlanService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 비동기 내보내기: 사용자별 진행 중 작업 상한(429), 다른 사용자 작업 숨김(404), 미완료 다운로드(409) 확인
+class ExportJobServiceTest {
+
+    private static final int MAX_JOBS_PER_OWNER = 2;
+
+    @TempDir
+    Path storageDir;
+
+    private final CountDownLatch renderGate = new CountDownLatch(1);
+    private ExportJobService exportJobService;
+
+    @AfterEach
+    void tearDown() {
+        renderGate.countDown();
+        if (exportJobService != null) {
+            exportJobService.shutdown();
+        }
+    }
+
+    @ParameterizedTest(name = "virtualThreads={0}")
+    @ValueSource(booleans = {false, true})
+    void ownerCapRejectsExtraJobsWith429UntilOneFinishes(boolean virtualThreads) throws IOException {
+        exportJobService = service(virtualThreads);
+
+        ExportJobResponseDto first = exportJobService.submit(ExportFormat.PDF, 1L, null, 7L);
+        exportJobService.submit(ExportFormat.PDF, 2L, null, 7L);
+
+        assertThatThrownBy(() -> exportJobService.submit(ExportFormat.PDF, 3L, null, 7L))
+                .isInstanceOf(ExportJobException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        // 다른 사용자는 영향 없음
+        exportJobService.submit(ExportFormat.PDF, 4L, null, 8L);
+
+        renderGate.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() ->
+                "DONE".equals(exportJobService.getStatus(first.getJobId(), 7L, null).getState()));
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(exportJobService.submit(ExportFormat.PDF, 3L, null, 7L).getState()).isNotNull());
+    }
+
+    @Test
+    void failedLookupReleasesTheOwnerSlot() throws IOException {
+        PlanService failing = mock(PlanService.class);
+        when(failing.getPlanForExport(eq(99L), any(), anyLong())).thenThrow(new IllegalArgumentException("없음"));
+        exportJobService = new ExportJobService(failing, mock(PlanExportService.class), 2, 10, MAX_JOBS_PER_OWNER,
+                Duration.ofMinutes(30), storageDir.toString(), false);
+
+        for (int i = 0; i < MAX_JOBS_PER_OWNER + 1; i++) {
+            assertThatThrownBy(() -> exportJobService.submit(ExportFormat.PDF, 99L, null, 7L))
+                    .isInstanceOf(IllegalArgumentException.class); // 429 가 아니라 원래 오류
+        }
+    }
+
+    @Test
+    void otherOwnersCannotSeeTheJob() throws IOException {
+        exportJobService = service(false);
+        String jobId = exportJobService.submit(ExportFormat.PDF, 1L, null, 7L).getJobId();
+
+        assertThatThrownBy(() -> exportJobService.getStatus(jobId, 8L, null))
+                .isInstanceOf(ExportJobException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.NOT_FOUND);
+        assertThatThrownBy(() -> exportJobService.getStatus(jobId, null, null))
+                .isInstanceOf(ExportJobException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void unfinishedJobCannotBeDownloaded() throws IOException {
+        exportJobService = service(false);
+        String jobId = exportJobService.submit(ExportFormat.PDF, 1L, null, 7L).getJobId();
+
+        assertThatThrownBy(() -> exportJobService.getCompletedJob(jobId, 7L, null))
+                .isInstanceOf(ExportJobException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    // 렌더링은 renderGate 가 열릴 때까지 막혀 있음 (작업이 진행 중인 상태 유지)
+    private ExportJobService service(boolean virtualThreads) throws IOException {
+        PlanService planService = mock(PlanService.class);
+        when(planService.getPlanForExport(any(), any(), any())).thenAnswer(invocation -> new PlanExportDto(
+                invocation.getArgument(0), null, 1L, "plan", LocalDateTime.now(), LocalDateTime.now(), null, 0));
+        PlanExportService planExportService = mock(PlanExportService.class);
+        doAnswer(invocation -> {
+            renderGate.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(planExportService).write(any(), any(), any());
+        return new ExportJobService(planService, planExportService, 2, 10, MAX_JOBS_PER_OWNER,
+                Duration.ofMinutes(30), storageDir.toString(), virtualThreads);
+    }
+}
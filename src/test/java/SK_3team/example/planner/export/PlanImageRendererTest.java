@@ -0,0 +1,85 @@
+package SK_3team.example.planner.export;
+
+import SK_3team.example.planner.dto.PlanExportDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 이미지 렌더링: 글자 폭 기준 줄바꿈으로 높이가 내용에 맞는지, max-height 에서 잘리는지, 폰트 파일이 없어도 설치된 폰트로 렌더링하는지
+class PlanImageRendererTest {
+
+    private static final int WIDTH = 800;
+    private static final int MAX_HEIGHT = 2000;
+
+    private final PlanImageRenderer renderer = renderer("");
+
+    @Test
+    void longParagraphIsWrappedToWidth() throws IOException {
+        BufferedImage shortImage = render(renderer, plan("짧은 대화"), ExportFormat.PNG);
+        BufferedImage wrappedImage = render(renderer, plan("긴 대화 ".repeat(100)), ExportFormat.PNG);
+
+        // 한 문단이라도 폭을 넘으면 여러 줄이 되어 이미지가 길어짐, 폭은 고정
+        assertThat(wrappedImage.getWidth()).isEqualTo(WIDTH);
+        assertThat(wrappedImage.getHeight()).isGreaterThan(shortImage.getHeight());
+    }
+
+    @Test
+    void heightGrowsWithLinesUpToMaxHeight() throws IOException {
+        BufferedImage oneLine = render(renderer, plan("user: hi"), ExportFormat.PNG);
+        BufferedImage tenLines = render(renderer, plan("user: hi\n".repeat(10)), ExportFormat.PNG);
+        BufferedImage tooLong = render(renderer, plan("user: hi\n".repeat(1000)), ExportFormat.JPG);
+
+        assertThat(tenLines.getHeight()).isGreaterThan(oneLine.getHeight()).isLessThan(MAX_HEIGHT);
+        // 1000줄이면 max-height 의 몇 배지만 생략 표시 한 줄까지만 그리고 멈춤
+        assertThat(tooLong.getHeight()).isBetween(MAX_HEIGHT - 100, MAX_HEIGHT);
+    }
+
+    @Test
+    void planWithoutChatHasTitleOnlyHeight() throws IOException {
+        BufferedImage empty = render(renderer, plan(null), ExportFormat.PNG);
+        BufferedImage withChat = render(renderer, plan("user: hi"), ExportFormat.PNG);
+
+        assertThat(empty.getHeight()).isPositive().isLessThan(withChat.getHeight());
+    }
+
+    @Test
+    void missingFontFileFallsBackToInstalledFont() throws IOException {
+        PlanImageRenderer missingFont = renderer("classpath:fonts/missing.ttf");
+        PlanExportDto plan = plan("제주도 일정\n".repeat(5));
+
+        BufferedImage image = render(missingFont, plan, ExportFormat.PNG);
+
+        // 기본값(빈 경로)과 같은 대체 폰트를 쓰므로 배치 결과도 같음
+        assertThat(image.getHeight()).isEqualTo(render(renderer, plan, ExportFormat.PNG).getHeight());
+    }
+
+    @Test
+    void pdfIsNotAnImageFormat() {
+        assertThatThrownBy(() -> renderer.write(plan("hi"), ExportFormat.PDF, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PlanImageRenderer renderer(String fontPath) {
+        return new PlanImageRenderer(new DefaultResourceLoader(), fontPath, WIDTH, MAX_HEIGHT, 0.85f, 2);
+    }
+
+    private static BufferedImage render(PlanImageRenderer renderer, PlanExportDto plan, ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.write(plan, format, out);
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static PlanExportDto plan(String aiChatContent) {
+        return new PlanExportDto(1L, null, 1L, "제주도 3박 4일",
+                LocalDateTime.of(2025, 7, 1, 9, 0), LocalDateTime.of(2025, 7, 4, 18, 0), aiChatContent, 0);
+    }
+}
@@ -0,0 +1,188 @@
+package SK_3team.example.planner.guest;
+
+import SK_3team.example.planner.dto.PlanChatAppendRequestDto;
+import SK_3team.example.planner.dto.PlanChatMessageDto;
+import SK_3team.example.planner.dto.PlanRequestDto;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanOutboxEvent;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
+import SK_3team.example.planner.repository.PlanOutboxRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import SK_3team.example.planner.service.PlanChatService;
+import SK_3team.example.planner.service.PlanService;
+import com.github.fppt.jedismock.RedisServer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게스트 초안(deferred-persistence): Redis 초안 -> 첫 저장/대화 때 MySQL 승격 + 초안 삭제, 동시 승격에서 진 쪽도 이긴 쪽 행을 사용
+// 승격 insert 는 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 쓰지 않음 (Redis 는 jedis-mock)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GuestDraftStoreTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanChatMessageRepository planChatMessageRepository;
+
+    @Autowired
+    private PlanOutboxRepository planOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private GuestDraftStore guestDraftStore;
+    private PlanService planService;
+    private PlanChatService planChatService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(redisServer.getHost(), redisServer.getBindPort());
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        guestDraftStore = new GuestDraftStore(redisTemplate, planRepository, transactionManager, true, Duration.ofHours(24));
+        PlanOutbox planOutbox = new PlanOutbox(planOutboxRepository);
+        planService = new PlanService(planRepository, planChatMessageRepository, planOutbox, guestDraftStore);
+        planChatService = new PlanChatService(planRepository, planChatMessageRepository, planOutbox, guestDraftStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("delete from PlanOutboxEvent").executeUpdate();
+            entityManager.createQuery("delete from PlanChatMessage").executeUpdate();
+            entityManager.createQuery("delete from PlanDetail").executeUpdate();
+            entityManager.createQuery("delete from Plan").executeUpdate();
+        });
+    }
+
+    @Test
+    void draftIsKeptOnlyInRedisUntilPromoted() {
+        String guestKey = planService.startGuestDraft().getGuestKey();
+
+        assertThat(guestDraftStore.find(guestKey)).map(GuestDraft::guestKey).contains(guestKey);
+        assertThat(planRepository.count()).isZero();
+        assertThat(guestDraftStore.find(GuestKeys.newKey())).isEmpty();
+    }
+
+    @Test
+    void promoteCommitsRowAndDeletesDraft() {
+        String guestKey = guestDraftStore.create().guestKey();
+
+        assertThat(guestDraftStore.promote(guestKey)).isTrue();
+
+        // 호출한 트랜잭션 없이도 커밋된 상태
+        assertThat(planRepository.findWithDetailByGuestKey(guestKey)).isPresent();
+        assertThat(guestDraftStore.find(guestKey)).isEmpty();
+        assertThat(guestDraftStore.promote(guestKey)).isFalse();
+    }
+
+    @Test
+    void losingConcurrentPromoteUsesWinnersRowWithoutRollingBackCaller() {
+        GuestDraft draft = guestDraftStore.create();
+        // 이긴 쪽: 같은 초안을 먼저 승격해서 커밋 (초안 삭제 전)
+        Long winnerId = planRepository.saveAndFlush(draft.toPlan()).getId();
+
+        // 진 쪽: 유니크 제약 위반이 호출한 트랜잭션을 rollback-only 로 만들지 않고 이긴 쪽 행을 잠가서 읽음
+        Long loserSees = new TransactionTemplate(transactionManager).execute(status -> {
+            assertThat(guestDraftStore.promote(draft.guestKey())).isTrue();
+            Long id = planRepository.findForUpdateByGuestKey(draft.guestKey()).orElseThrow().getId();
+            assertThat(status.isRollbackOnly()).isFalse();
+            return id;
+        });
+
+        assertThat(loserSees).isEqualTo(winnerId);
+        assertThat(planRepository.count()).isEqualTo(1);
+        assertThat(guestDraftStore.find(draft.guestKey())).isEmpty();
+    }
+
+    @Test
+    void firstSaveOfDraftInsertsPlanAndRecordsCreated() {
+        String guestKey = planService.startGuestDraft().getGuestKey();
+
+        PlanRequestDto requestDto = new PlanRequestDto("guest", LocalDateTime.of(2025, 7, 1, 10, 0),
+                LocalDateTime.of(2025, 7, 1, 18, 0), "chat", null, null);
+        inTransaction(() -> planService.createOrUpdatePlan(requestDto, null, guestKey));
+
+        Plan plan = planRepository.findWithDetailByGuestKey(guestKey).orElseThrow();
+        assertThat(plan.getTitle()).isEqualTo("guest");
+        assertThat(plan.getPlanDetail().getAiChatContent()).isEqualTo("chat");
+        assertThat(guestDraftStore.find(guestKey)).isEmpty();
+        assertThat(planOutboxRepository.findAll()).extracting(PlanOutboxEvent::getType)
+                .containsExactly(PlanEventType.CREATED);
+    }
+
+    @Test
+    void firstChatTurnOfDraftInsertsPlan() {
+        String guestKey = planService.startGuestDraft().getGuestKey();
+
+        inTransaction(() -> planChatService.appendTurns(null, guestKey, null, new PlanChatAppendRequestDto(0,
+                List.of(new PlanChatMessageDto(null, "user", "hi", null)))));
+
+        Plan plan = planRepository.findWithDetailByGuestKey(guestKey).orElseThrow();
+        assertThat(plan.getLastChatSeq()).isEqualTo(1);
+        assertThat(planChatMessageRepository.findAllByPlanId(plan.getId())).hasSize(1);
+        assertThat(guestDraftStore.find(guestKey)).isEmpty();
+        assertThat(planOutboxRepository.findAll()).extracting(PlanOutboxEvent::getType)
+                .containsExactly(PlanEventType.CREATED, PlanEventType.CHAT_APPENDED);
+    }
+
+    // 서비스를 직접 만들었으므로 @Transactional 대신 같은 트랜잭션 경계를 씌움
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+}
@@ -0,0 +1,74 @@
+package SK_3team.example.planner.guest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게스트 키: UUIDv7 형식(버전/variant/시각 순서)과 16바이트 변환 확인
+class GuestKeysTest {
+
+    @Test
+    void newKeyIsUuidVersion7WithRfcVariant() {
+        UUID uuid = UUID.fromString(GuestKeys.newKey());
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void newKeyStartsWithCurrentMillis() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UUID.fromString(GuestKeys.newKey());
+        long after = System.currentTimeMillis();
+
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertThat(millis).isBetween(before, after);
+    }
+
+    @Test
+    void keysFromLaterMillisSortAfterEarlierOnes() throws InterruptedException {
+        String first = GuestKeys.newKey();
+        Thread.sleep(2);
+        String second = GuestKeys.newKey();
+
+        // BINARY(16) 인덱스 순서 = 부호 없는 바이트 비교 = 소문자 hex 문자열 비교
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void keysAreNotGuessableFromEachOther() {
+        String first = GuestKeys.newKey();
+        String second = GuestKeys.newKey();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.substring(19)).isNotEqualTo(second.substring(19));
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        String key = GuestKeys.newKey();
+
+        byte[] bytes = GuestKeys.toBytes(key);
+
+        assertThat(bytes).hasSize(16);
+        assertThat(GuestKeys.fromBytes(bytes)).isEqualTo(key);
+    }
+
+    @Test
+    void legacyV4KeysAreStillAccepted() {
+        String key = UUID.randomUUID().toString();
+
+        assertThat(GuestKeys.fromBytes(GuestKeys.toBytes(key))).isEqualTo(key);
+    }
+
+    @Test
+    void malformedKeysMapToNull() {
+        assertThat(GuestKeys.toBytes(null)).isNull();
+        assertThat(GuestKeys.toBytes("")).isNull();
+        assertThat(GuestKeys.toBytes("not-a-uuid")).isNull();
+        assertThat(GuestKeys.toBytes("zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz")).isNull();
+        assertThat(GuestKeys.toBytes("1-1-1-1-1")).isNull();
+    }
+}
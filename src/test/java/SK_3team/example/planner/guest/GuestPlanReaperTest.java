@@ -0,0 +1,172 @@
+package SK_3team.example.planner.guest;
+
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanChatMessage;
+import SK_3team.example.planner.entity.PlanDetail;
+import SK_3team.example.planner.entity.PlanOutboxEvent;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
+import SK_3team.example.planner.repository.PlanOutboxRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 게스트 일정 정리: 오래된 게스트 일정만 keyset 배치로 지우고, 엔티티를 로드하지 않으며, DELETED outbox 를 남기는지 확인
+// 배치마다 별도 트랜잭션이 실제로 커밋되어야 outbox insert 까지 반영되므로 테스트 트랜잭션은 쓰지 않음
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GuestPlanReaperTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanChatMessageRepository planChatMessageRepository;
+
+    @Autowired
+    private PlanOutboxRepository planOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private RedisUtil redisUtil;
+    private GuestPlanReaper reaper;
+    private final List<Long> idleGuestIds = new ArrayList<>();
+    private Long recentGuestId;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            idleGuestIds.add(savePlan(null, "idle " + i));
+        }
+        recentGuestId = savePlan(null, "recent");
+        memberId = savePlan(1L, "member");
+        planChatMessageRepository.save(new PlanChatMessage(null, idleGuestIds.get(0), 1, "user", "hi", LocalDateTime.now()));
+
+        // modified_at 은 @PrePersist 로 현재 시각이 들어가므로 SQL 로 오래된 일정을 만듦
+        LocalDateTime old = LocalDateTime.now().minusDays(40);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("update plans set modified_at = :old where id in :ids")
+                    .setParameter("old", old)
+                    .setParameter("ids", idleGuestIds)
+                    .executeUpdate();
+            entityManager.createNativeQuery("update plans set modified_at = :old where id = :id")
+                    .setParameter("old", old)
+                    .setParameter("id", memberId)
+                    .executeUpdate();
+        });
+        entityManager.clear();
+
+        redisUtil = mock(RedisUtil.class);
+        when(redisUtil.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+        reaper = new GuestPlanReaper(planRepository, planChatMessageRepository, new PlanOutbox(planOutboxRepository),
+                redisUtil, transactionManager, new SimpleMeterRegistry(), Duration.ofDays(30), BATCH_SIZE,
+                Duration.ZERO, Duration.ofMinutes(1), Duration.ofMinutes(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("delete from PlanOutboxEvent").executeUpdate();
+            entityManager.createQuery("delete from PlanChatMessage").executeUpdate();
+            entityManager.createQuery("delete from PlanDetail").executeUpdate();
+            entityManager.createQuery("delete from Plan").executeUpdate();
+        });
+    }
+
+    @Test
+    void purgesOnlyIdleGuestPlansInKeysetBatches() {
+        reaper.reap();
+        entityManager.clear();
+
+        assertThat(planRepository.findAllById(idleGuestIds)).isEmpty();
+        assertThat(planRepository.findById(recentGuestId)).isPresent();
+        assertThat(planRepository.findById(memberId)).isPresent();
+        assertThat(planChatMessageRepository.findAllByPlanId(idleGuestIds.get(0))).isEmpty();
+
+        List<PlanOutboxEvent> events = planOutboxRepository.findAll();
+        assertThat(events).extracting(PlanOutboxEvent::getPlanId).containsExactlyInAnyOrderElementsOf(idleGuestIds);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getType()).isEqualTo(PlanEventType.DELETED);
+            assertThat(event.getUserId()).isNull();
+        });
+        verify(redisUtil).unlock(eq("lock:guest-plan-reaper"), anyString());
+    }
+
+    @Test
+    void lockingQueryDoesNotLoadPlanEntities() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        reaper.reap();
+
+        // 프로젝션으로 잠그므로 Plan / PlanDetail 엔티티 로드(행마다 plan_details select)가 없어야 함
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void skipsRunWhenAnotherNodeHoldsTheLock() {
+        when(redisUtil.tryLock(anyString(), anyString(), anyLong())).thenReturn(false);
+
+        reaper.reap();
+        entityManager.clear();
+
+        assertThat(planRepository.findAllById(idleGuestIds)).hasSize(idleGuestIds.size());
+        assertThat(planOutboxRepository.count()).isZero();
+    }
+
+    private Long savePlan(Long userId, String title) {
+        Plan plan = new Plan();
+        plan.setUserId(userId);
+        plan.setTitle(title);
+        plan.setStart(LocalDateTime.of(2025, 7, 1, 10, 0));
+        plan.setEnd(LocalDateTime.of(2025, 7, 1, 18, 0));
+        plan.setCreatedAt(LocalDateTime.now());
+        if (userId == null) {
+            plan.setGuestKey(GuestKeys.newKey());
+        }
+
+        PlanDetail planDetail = new PlanDetail();
+        planDetail.setAiChatContent("chat");
+        plan.setPlanDetail(planDetail);
+        return planRepository.save(plan).getId();
+    }
+}
@@ -0,0 +1,128 @@
+package SK_3team.example.planner.jwt;
+
+import SK_3team.example.planner.redis.RedisUtil;
+import SK_3team.example.planner.redis.RevocationEpochs;
+import SK_3team.example.planner.redis.SessionCache;
+import SK_3team.example.planner.redis.SessionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 인증 필터: 세션 확인은 요청당 Redis 한 번(validateSession), 검증된 토큰은 로컬 캐시, 세션 없음/불일치/강제 로그아웃 시 거부
+class JWTFilterTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret!";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET);
+    private RedisUtil redisUtil;
+    private JWTFilter filter;
+    private String token;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisUtil = mock(RedisUtil.class);
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        SessionCache sessionCache = new SessionCache(redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        RevocationEpochs revocationEpochs = new RevocationEpochs(redisUtil, redisTemplate, sessionCache,
+                new SimpleMeterRegistry(), 100, Duration.ofSeconds(30), Duration.ofHours(10));
+        filter = new JWTFilter(jwtUtil, redisUtil, sessionCache, revocationEpochs, new AuthMetrics(new SimpleMeterRegistry()));
+        token = jwtUtil.createJwt("alice", "ROLE_USER", 7L, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validSessionIsCheckedOnceThenServedFromCache() throws Exception {
+        when(redisUtil.validateSession(token, "alice")).thenReturn(SessionStatus.VALID);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = request("/plans/get_plans");
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertThat(chain.getRequest()).isNotNull();
+            JWTClaims claims = (JWTClaims) request.getAttribute(JWTClaims.ATTRIBUTE);
+            assertThat(claims.getUserId()).isEqualTo(7L);
+            SecurityContextHolder.clearContext();
+        }
+        verify(redisUtil, times(1)).validateSession(token, "alice");
+    }
+
+    @Test
+    void missingSessionIsRejectedAndNotCached() throws Exception {
+        when(redisUtil.validateSession(token, "alice")).thenReturn(SessionStatus.UNKNOWN);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("/plans/get_plans"), response, chain);
+
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(chain.getRequest()).isNull();
+        }
+        verify(redisUtil, times(2)).validateSession(token, "alice");
+    }
+
+    @Test
+    void sessionOfAnotherUserPassesOptionalPathAsGuest() throws Exception {
+        when(redisUtil.validateSession(token, "alice")).thenReturn(SessionStatus.MISMATCHED);
+        MockHttpServletRequest request = request("/plans/start");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(request.getAttribute(JWTClaims.ATTRIBUTE)).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void revokedTokenIsRejectedWithoutSessionLookup() throws Exception {
+        when(redisUtil.getRevokedBefore("alice")).thenReturn(System.currentTimeMillis() + 10_000);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/plans/get_plans"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        verify(redisUtil, never()).validateSession(anyString(), anyString());
+    }
+
+    @Test
+    void forgedTokenIsRejectedWithoutSessionLookup() throws Exception {
+        String forged = new JWTUtil("another-secret-another-secret-12345").createJwt("alice", "ROLE_USER", 7L, 60_000L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/plans/get_plans");
+        request.addHeader("Authorization", "Bearer " + forged);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        verify(redisUtil, never()).validateSession(anyString(), anyString());
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,319 @@
+package SK_3team.example.planner.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 단일 노드 처리량 측정용 부하 테스트 (기본 빌드에서는 제외, ./mvnw -Ploadtest test 로 실행)
+// 외부 의존성 없이 H2(MySQL 모드) + jedis-mock(인프로세스 Redis)로 앱 전체를 띄우고 실제 HTTP 로 호출
+// 시나리오 비율: 게스트(start -> save -> export) 50% / 회원 캘린더 조회 40% / 회원 로그인 -> 로그아웃 10%
+// 설정: -Dloadtest.users=16 -Dloadtest.duration=30 (초) -Dloadtest.members=20 -Dloadtest.max-error-rate=0.01
+// 플랫폼/가상 스레드 비교: -Dloadtest.virtual-threads=true|false (서버의 spring.threads.virtual.enabled)
+//   -Dloadtest.tomcat-max-threads=50 처럼 Tomcat 스레드 수를 사용자 수보다 작게 잡으면 차이가 드러남
+// 결과: 엔드포인트별 처리량, p50/p95/p99 를 출력하고 target/loadtest-report-<platform|virtual>.csv 로 저장
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PlannerLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 16);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 30);
+    private static final int MEMBERS = Integer.getInteger("loadtest.members", 20);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadtest.virtual-threads");
+    private static final String TOMCAT_MAX_THREADS = System.getProperty("loadtest.tomcat-max-threads");
+    private static final String PASSWORD = "loadtest-password";
+
+    private static RedisServer redisServer;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        registry.add("spring.redis.host", redisServer::getHost);
+        registry.add("spring.redis.port", redisServer::getBindPort);
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+        if (TOMCAT_MAX_THREADS != null) {
+            registry.add("server.tomcat.threads.max", () -> TOMCAT_MAX_THREADS);
+        }
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        List<String> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            String username = "load" + i;
+            send(new Samples(), "register", post("/api/users/register",
+                    "{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"" + PASSWORD + "\"}"));
+            members.add(username);
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+        // 클라이언트 쪽은 두 모드 모두 가상 스레드 (사용자 수를 늘려도 클라이언트가 병목이 되지 않게)
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<Samples>> futures = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String username = members.get(i % members.size());
+            futures.add(executor.submit(() -> runUser(username, deadline)));
+        }
+
+        Samples total = new Samples();
+        for (Future<Samples> future : futures) {
+            total.merge(future.get());
+        }
+        executor.shutdown();
+
+        Report report = new Report(total, DURATION_SECONDS);
+        report.print();
+        report.writeCsv(Paths.get("target", "loadtest-report-" + threadMode() + ".csv"));
+
+        assertThat(report.errorRate())
+                .as("전체 오류율")
+                .isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    private static String threadMode() {
+        return VIRTUAL_THREADS ? "virtual" : "platform";
+    }
+
+    // 가상 사용자 한 명: 마감 시각까지 시나리오를 무작위로 반복
+    private Samples runUser(String username, long deadline) {
+        Samples samples = new Samples();
+        String token = login(samples, username);
+        while (System.nanoTime() < deadline) {
+            int dice = ThreadLocalRandom.current().nextInt(100);
+            if (dice < 50) {
+                guestFlow(samples);
+            } else if (dice < 90) {
+                memberCalendar(samples, token);
+            } else {
+                logout(samples, token);
+                token = login(samples, username);
+            }
+        }
+        logout(samples, token);
+        return samples;
+    }
+
+    private void guestFlow(Samples samples) {
+        HttpResponse<String> started = send(samples, "POST /plans/start", post("/plans/start", ""));
+        String guestKey = readField(started, "guestKey");
+        if (guestKey == null) {
+            return;
+        }
+        LocalDate day = LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(60));
+        send(samples, "POST /plans/save (guest)", post("/plans/save?guestKey=" + guestKey, planJson(day)));
+        send(samples, "GET /plans/export/pdf", get("/plans/export/pdf?guestKey=" + guestKey, null));
+    }
+
+    private void memberCalendar(Samples samples, String token) {
+        LocalDate from = LocalDate.now().withDayOfMonth(1);
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            LocalDate day = from.plusDays(ThreadLocalRandom.current().nextInt(28));
+            send(samples, "POST /plans/save (member)", post("/plans/save", planJson(day)).header("Authorization", token));
+        }
+        send(samples, "GET /plans/get_plans_by_range",
+                get("/plans/get_plans_by_range?from=" + from + "&to=" + from.plusMonths(1).minusDays(1), token));
+        send(samples, "GET /plans/get_plans_page", get("/plans/get_plans_page?size=50", token));
+    }
+
+    private String login(Samples samples, String username) {
+        HttpResponse<String> response = send(samples, "POST /api/users/login", post("/api/users/login",
+                "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"));
+        return response == null ? null : response.headers().firstValue("Authorization").orElse(null);
+    }
+
+    private void logout(Samples samples, String token) {
+        if (token != null) {
+            send(samples, "POST /api/users/logout", post("/api/users/logout", "").header("Authorization", token));
+        }
+    }
+
+    private String planJson(LocalDate day) {
+        return "{\"title\":\"부하 테스트 일정\",\"start\":\"" + day.atTime(9, 0) + "\",\"end\":\"" + day.atTime(18, 0) + "\"," +
+                "\"aiChatContent\":\"user: 일정 추천해줘\\nai: 오전에는 박물관, 오후에는 해변 산책을 추천합니다.\"}";
+    }
+
+    private HttpRequest.Builder get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        return token != null ? builder.header("Authorization", token) : builder;
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    // 응답 본문은 끝까지 읽어야 실제 처리 시간이 측정됨 (스트리밍 응답 포함)
+    private HttpResponse<String> send(Samples samples, String endpoint, HttpRequest.Builder request) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            samples.record(endpoint, System.nanoTime() - started, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            samples.record(endpoint, System.nanoTime() - started, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String readField(HttpResponse<String> response, String field) {
+        if (response == null || response.statusCode() >= 400) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(response.body()).get(field);
+            return node != null && !node.isNull() ? node.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 스레드별 측정값 (끝나고 합침, 측정 중에는 잠금 없음)
+    static final class Samples {
+
+        private final Map<String, long[]> latencies = new TreeMap<>();
+        private final Map<String, Integer> counts = new TreeMap<>();
+        private final Map<String, Integer> errors = new TreeMap<>();
+
+        void record(String endpoint, long nanos, boolean success) {
+            int count = counts.getOrDefault(endpoint, 0);
+            long[] values = latencies.computeIfAbsent(endpoint, key -> new long[256]);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(endpoint, values);
+            }
+            values[count] = nanos;
+            counts.put(endpoint, count + 1);
+            if (!success) {
+                errors.merge(endpoint, 1, Integer::sum);
+            }
+        }
+
+        void merge(Samples other) {
+            other.counts.forEach((endpoint, count) -> {
+                long[] values = other.latencies.get(endpoint);
+                for (int i = 0; i < count; i++) {
+                    record(endpoint, values[i], true);
+                }
+            });
+            other.errors.forEach((endpoint, count) -> errors.merge(endpoint, count, Integer::sum));
+        }
+    }
+
+    static final class Report {
+
+        private final Samples samples;
+        private final int durationSeconds;
+
+        Report(Samples samples, int durationSeconds) {
+            this.samples = samples;
+            this.durationSeconds = durationSeconds;
+        }
+
+        double errorRate() {
+            long requests = samples.counts.values().stream().mapToLong(Integer::longValue).sum();
+            long errors = samples.errors.values().stream().mapToLong(Integer::longValue).sum();
+            return requests == 0 ? 1.0 : (double) errors / requests;
+        }
+
+        void print() {
+            System.out.printf("%n=== load test: %d users, %ds, %s threads ===%n", USERS, durationSeconds, threadMode());
+            System.out.printf("%-34s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+            rows().forEach(row -> System.out.printf("%-34s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(), row.count(), row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.max()));
+        }
+
+        void writeCsv(Path file) {
+            try {
+                Files.createDirectories(file.getParent());
+                try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+                    writer.println("endpoint,count,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms");
+                    rows().forEach(row -> writer.printf("\"%s\",%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f%n",
+                            row.endpoint(), row.count(), row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.max()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private List<Row> rows() {
+            List<Row> rows = new ArrayList<>();
+            samples.counts.forEach((endpoint, count) -> {
+                long[] sorted = Arrays.copyOf(samples.latencies.get(endpoint), count);
+                Arrays.sort(sorted);
+                rows.add(new Row(endpoint, count, samples.errors.getOrDefault(endpoint, 0),
+                        (double) count / durationSeconds,
+                        percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                        sorted[count - 1] / 1_000_000.0));
+            });
+            return rows;
+        }
+
+        // nearest-rank 방식
+        private static double percentile(long[] sorted, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+        }
+    }
+
+    record Row(String endpoint, int count, int errors, double throughput,
+               double p50, double p95, double p99, double max) {
+    }
+}
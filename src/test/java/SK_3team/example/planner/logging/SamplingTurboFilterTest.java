@@ -0,0 +1,92 @@
+package SK_3team.example.planner.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로그 샘플링: 가장 길게 일치하는 로거 이름의 비율 적용, WARN 이상과 레벨 확인 호출은 항상 통과
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+    }
+
+    @Test
+    void longestPrefixWins() {
+        start("org.hibernate=0, org.hibernate.SQL.slow=1");
+
+        assertThat(decide("org.hibernate.SQL", Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(decide("org.hibernate.SQL.slow", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide("org.hibernate.SQL.slow.Query", Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        // 설정에 없는 로거는 전부 남김
+        assertThat(decide("SK_3team.example.planner.service.PlanService", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void warnAndAboveAreNeverSampled() {
+        start("SK_3team.example.planner.jwt=0");
+
+        assertThat(decide("SK_3team.example.planner.jwt.JWTFilter", Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide("SK_3team.example.planner.jwt.JWTFilter", Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide("SK_3team.example.planner.jwt.JWTFilter", Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void levelChecksWithoutMessageAreNotSampled() {
+        start("org.hibernate=0");
+
+        assertThat(filter.decide(null, context.getLogger("org.hibernate.SQL"), Level.DEBUG, null, null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void rateKeepsRoughlyThatShareOfEvents() {
+        start("org.hibernate.SQL=0.25");
+
+        int kept = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (decide("org.hibernate.SQL", Level.DEBUG) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        assertThat(kept).isBetween(4_000, 6_000);
+    }
+
+    @Test
+    void malformedEntriesAreIgnoredAndRatesClamped() {
+        start("broken, =0.5, org.hibernate=abc, org.hibernate.SQL=-3, SK_3team=7");
+
+        assertThat(decide("org.hibernate.SQL", Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(decide("org.hibernate.orm", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide("SK_3team.example", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void notStartedOrEmptyConfigurationKeepsEverything() {
+        filter.setRates("org.hibernate=0");
+        assertThat(decide("org.hibernate.SQL", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+
+        start(null);
+        assertThat(decide("org.hibernate.SQL", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private void start(String rates) {
+        filter.setRates(rates);
+        filter.start();
+    }
+
+    private FilterReply decide(String loggerName, Level level) {
+        Logger logger = context.getLogger(loggerName);
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+}
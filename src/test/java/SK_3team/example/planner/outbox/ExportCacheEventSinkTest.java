@@ -0,0 +1,83 @@
+package SK_3team.example.planner.outbox;
+
+import SK_3team.example.planner.export.ExportCache;
+import SK_3team.example.planner.export.ExportFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 내보내기 캐시 제거: relay 를 받은 노드가 pub/sub 으로 전파하고, 메시지를 받은 각 노드가 로컬 캐시를 비우는지 확인
+class ExportCacheEventSinkTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ExportCache exportCache;
+    private ExportCacheEventSink sink;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        redisTemplate = mock(RedisTemplate.class);
+        exportCache = new ExportCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+                false, System.getProperty("java.io.tmpdir"), Duration.ofHours(1));
+        sink = new ExportCacheEventSink(exportCache, redisTemplate);
+    }
+
+    @Test
+    void deliverPublishesEvictionsForEveryNode() {
+        sink.deliver(List.of(
+                event(PlanEventType.UPDATED, 1L, 3L),
+                event(PlanEventType.CREATED, 2L, 1L),
+                event(PlanEventType.DELETED, 3L, 5L)));
+
+        verify(redisTemplate).convertAndSend(ExportCacheEventSink.EVICTION_CHANNEL, "1:3,3:" + Long.MAX_VALUE);
+    }
+
+    @Test
+    void createdOnlyBatchPublishesNothing() {
+        sink.deliver(List.of(event(PlanEventType.CREATED, 2L, 1L)));
+
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void messageEvictsOlderVersionsFromLocalCache() throws IOException {
+        ExportCache.Key oldVersion = store(1L, 2L);
+        ExportCache.Key currentVersion = store(1L, 3L);
+        ExportCache.Key deletedPlan = store(3L, 5L);
+
+        sink.onMessage(new DefaultMessage(ExportCacheEventSink.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("1:3,3:" + Long.MAX_VALUE).getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(exportCache.get(oldVersion)).isNull();
+        assertThat(exportCache.get(currentVersion)).isNotNull();
+        assertThat(exportCache.get(deletedPlan)).isNull();
+    }
+
+    private ExportCache.Key store(long planId, long version) throws IOException {
+        ExportCache.Key key = new ExportCache.Key(planId, version, ExportFormat.PDF);
+        exportCache.renderAndStore(key, outputStream -> outputStream.write(new byte[]{1, 2, 3}), new ByteArrayOutputStream());
+        assertThat(exportCache.get(key)).isNotNull();
+        return key;
+    }
+
+    private PlanEvent event(PlanEventType type, long planId, long contentVersion) {
+        return new PlanEvent(1L, type, planId, null, contentVersion, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,139 @@
+package SK_3team.example.planner.outbox;
+
+import SK_3team.example.planner.entity.PlanOutboxEvent;
+import SK_3team.example.planner.repository.PlanOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// outbox relay: 싱크가 실패하면 배치 전체가 롤백되어 다음 주기에 같은 이벤트를 다시 전달하는지 확인 (최소 한 번)
+// 배치 트랜잭션이 실제로 커밋/롤백되어야 하므로 테스트 트랜잭션은 쓰지 않음
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private PlanOutboxRepository planOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        planOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void failedBatchIsRedeliveredOnNextRun() {
+        saveEvents(3);
+        FlakySink sink = new FlakySink("flaky", 1);
+        OutboxRelay relay = relay(List.of(sink), 10);
+
+        relay.relay();
+
+        assertThat(planOutboxRepository.findAll()).allSatisfy(event -> assertThat(event.getDeliveredAt()).isNull());
+        assertThat(meterRegistry.counter("planner.outbox.failures", "sink", "flaky").count()).isEqualTo(1);
+
+        relay.relay();
+
+        assertThat(planOutboxRepository.findAll()).allSatisfy(event -> assertThat(event.getDeliveredAt()).isNotNull());
+        assertThat(sink.batches).hasSize(2);
+        assertThat(sink.batches.get(1)).extracting(PlanEvent::id)
+                .containsExactlyElementsOf(sink.batches.get(0).stream().map(PlanEvent::id).toList());
+        assertThat(meterRegistry.counter("planner.outbox.delivered", "sink", "flaky").count()).isEqualTo(3);
+    }
+
+    @Test
+    void laterSinksAreNotCalledWhenAnEarlierSinkFails() {
+        saveEvents(1);
+        FlakySink failing = new FlakySink("flaky", 1);
+        FlakySink next = new FlakySink("next", 0);
+        OutboxRelay relay = relay(List.of(failing, next), 10);
+
+        relay.relay();
+
+        assertThat(next.batches).isEmpty();
+    }
+
+    @Test
+    void deliversInBatchesUntilDrained() {
+        saveEvents(5);
+        FlakySink sink = new FlakySink("ok", 0);
+
+        relay(List.of(sink), 2).relay();
+
+        assertThat(sink.batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(planOutboxRepository.findAll()).allSatisfy(event -> assertThat(event.getDeliveredAt()).isNotNull());
+    }
+
+    @Test
+    void pruneRemovesOnlyDeliveredEventsPastRetention() {
+        saveEvents(2);
+        FlakySink sink = new FlakySink("ok", 0);
+        OutboxRelay relay = new OutboxRelay(planOutboxRepository, List.of(sink), transactionManager, meterRegistry,
+                10, 20, Duration.ofSeconds(-1)); // 전달 즉시 정리 대상
+        relay.relay();
+        saveEvents(1);
+
+        relay.prune();
+
+        assertThat(planOutboxRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getDeliveredAt()).isNull());
+    }
+
+    private OutboxRelay relay(List<PlanEventSink> sinks, int batchSize) {
+        return new OutboxRelay(planOutboxRepository, sinks, transactionManager, meterRegistry,
+                batchSize, 20, Duration.ofHours(24));
+    }
+
+    private void saveEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            planOutboxRepository.save(new PlanOutboxEvent(PlanEventType.UPDATED, (long) i + 1, 1L, 2L, LocalDateTime.now()));
+        }
+    }
+
+    // 처음 failures 번은 실패하고 이후에는 받은 배치를 기록
+    private static final class FlakySink implements PlanEventSink {
+
+        private final String name;
+        private final List<List<PlanEvent>> batches = new ArrayList<>();
+        private int failures;
+
+        FlakySink(String name, int failures) {
+            this.name = name;
+            this.failures = failures;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void deliver(List<PlanEvent> events) {
+            if (failures > 0) {
+                failures--;
+                batches.add(List.copyOf(events));
+                throw new IllegalStateException("sink down");
+            }
+            batches.add(List.copyOf(events));
+        }
+    }
+}
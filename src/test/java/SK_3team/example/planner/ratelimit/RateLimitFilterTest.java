@@ -0,0 +1,116 @@
+package SK_3team.example.planner.ratelimit;
+
+import SK_3team.example.planner.guest.GuestKeys;
+import SK_3team.example.planner.redis.SessionCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 요청 수 제한 필터: 규칙 매칭, 버킷 키 선택, 초과 시 429 + Retry-After + ErrorResponseDto 형식 확인
+class RateLimitFilterTest {
+
+    private RateLimitProperties properties;
+    private RateLimitProperties.Route route;
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        route = new RateLimitProperties.Route();
+        route.setName("guest-start");
+        route.setPaths(List.of("/**/plans/start"));
+        route.setMethods(List.of("POST"));
+        route.setLimit(10);
+        properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(new RateLimiter.Decision(true, 0));
+        filter = new RateLimitFilter(properties, rateLimiter, mock(SessionCache.class), new ObjectMapper());
+    }
+
+    @Test
+    void rejectedRequestGets429WithRetryAfterInSeconds() throws Exception {
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(new RateLimiter.Decision(false, 1_500));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/plans/start"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2"); // 올림
+        assertThat(response.getContentAsString())
+                .contains("\"status\":\"error\"")
+                .contains("\"code\":429");
+        assertThat(chain.getRequest()).isNull(); // 다음 필터로 넘어가지 않음
+    }
+
+    @Test
+    void allowedRequestContinuesDownTheChain() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/spring/plans/start"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verify(rateLimiter).tryAcquire(route, "ip:127.0.0.1");
+    }
+
+    @Test
+    void unmatchedPathOrMethodIsNotLimited() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/plans/start"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("POST", "/plans/save"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter, never()).tryAcquire(any(), anyString());
+    }
+
+    @Test
+    void forwardedForIsUsedOnlyWhenTrustedAndTakesLastHop() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/plans/start");
+        request.addHeader("X-Forwarded-For", "6.6.6.6, 10.0.0.7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        verify(rateLimiter).tryAcquire(route, "ip:127.0.0.1");
+
+        properties.setTrustForwardedFor(true);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        verify(rateLimiter).tryAcquire(route, "ip:10.0.0.7");
+    }
+
+    @Test
+    void guestKeyBucketAcceptsOnlyWellFormedKeys() throws Exception {
+        route.setKey(RateLimitProperties.KeyType.GUEST_KEY);
+        String guestKey = GuestKeys.newKey();
+
+        MockHttpServletRequest valid = new MockHttpServletRequest("POST", "/plans/start");
+        valid.setParameter("guestKey", guestKey.toUpperCase());
+        filter.doFilter(valid, new MockHttpServletResponse(), new MockFilterChain());
+        verify(rateLimiter).tryAcquire(route, "g:" + guestKey);
+
+        // 임의 문자열로 버킷을 늘리지 못하게 IP 로 대체
+        MockHttpServletRequest bogus = new MockHttpServletRequest("POST", "/plans/start");
+        bogus.setParameter("guestKey", "anything");
+        filter.doFilter(bogus, new MockHttpServletResponse(), new MockFilterChain());
+        verify(rateLimiter).tryAcquire(route, "ip:127.0.0.1");
+    }
+
+    @Test
+    void disabledFilterSkipsEverything() throws Exception {
+        properties.setEnabled(false);
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/plans/start"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter, never()).tryAcquire(any(), anyString());
+    }
+}
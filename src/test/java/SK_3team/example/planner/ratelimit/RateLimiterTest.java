@@ -0,0 +1,166 @@
+package SK_3team.example.planner.ratelimit;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// GCRA 요청 수 제한: burst 까지 허용 후 거부 + 재시도 시각, 노드 간 Redis 버킷 공유, Redis 장애 시 로컬 버킷 및 복구 후 Redis 기준 확인
+class RateLimiterTest {
+
+    private static final int LIMIT = 3;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private RateLimitProperties properties;
+    private RateLimitProperties.Route route;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(redisServer.getHost(), redisServer.getBindPort());
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        route = new RateLimitProperties.Route();
+        route.setName("guest-start");
+        route.setLimit(LIMIT);
+        route.setPeriod(Duration.ofMinutes(1));
+        properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfter() {
+        RateLimiter rateLimiter = new RateLimiter(redisTemplate, properties, meterRegistry);
+
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+        }
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(route, "ip:1.2.3.4");
+
+        assertThat(rejected.allowed()).isFalse();
+        // 다음 토큰은 한 간격(60s / 3) 안에 생김
+        assertThat(rejected.retryAfterMs()).isPositive().isLessThanOrEqualTo(route.emissionIntervalMs());
+        // 다른 키는 별도 버킷
+        assertThat(rateLimiter.tryAcquire(route, "ip:5.6.7.8").allowed()).isTrue();
+    }
+
+    @Test
+    void bucketIsSharedAcrossNodesThroughRedis() {
+        RateLimiter nodeA = new RateLimiter(redisTemplate, properties, meterRegistry);
+        RateLimiter nodeB = new RateLimiter(redisTemplate, properties, meterRegistry);
+
+        assertThat(nodeA.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+        assertThat(nodeB.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+        assertThat(nodeA.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+
+        // 노드 B 는 자기 요청 1건만 봤지만 Redis 버킷 기준으로 거부
+        assertThat(nodeB.tryAcquire(route, "ip:1.2.3.4").allowed()).isFalse();
+    }
+
+    @Test
+    void rejectedLocallyWithoutAskingRedisOnceLocalBucketIsFull() {
+        RateLimiter rateLimiter = new RateLimiter(redisTemplate, properties, meterRegistry);
+        for (int i = 0; i <= LIMIT; i++) {
+            rateLimiter.tryAcquire(route, "ip:1.2.3.4");
+        }
+
+        assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isFalse();
+        assertThat(meterRegistry.counter("planner.ratelimit.decisions", "route", "guest-start", "outcome", "rejected-local")
+                .count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fallsBackToLocalBucketWhenRedisFails() {
+        RedisTemplate<String, Object> failing = mock(RedisTemplate.class);
+        when(failing.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        RateLimiter rateLimiter = new RateLimiter(failing, properties, meterRegistry);
+
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisDecidesAgainOnceItRecoversFromFallback() {
+        // 장애 중 로컬로 허용한 요청이 Redis 버킷을 가리지 않아야 함 (Redis 는 이 요청들을 모름)
+        RedisTemplate<String, Object> flaky = mock(RedisTemplate.class);
+        when(flaky.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenAnswer(invocation -> redisTemplate.execute(invocation.<RedisScript<List<Long>>>getArgument(0),
+                        invocation.<List<String>>getArgument(1), (Object[]) invocation.getRawArguments()[2]));
+        RateLimiter rateLimiter = new RateLimiter(flaky, properties, meterRegistry);
+
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isFalse();
+
+        assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+        assertThat(meterRegistry.counter("planner.ratelimit.decisions", "route", "guest-start", "outcome", "allowed")
+                .count()).isEqualTo(1);
+        assertThat(redisTemplate.hasKey("rate:guest-start:ip:1.2.3.4")).isTrue();
+    }
+
+    @Test
+    void localOnlyModeEnforcesLimitPerNode() {
+        properties.setRedisEnabled(false);
+        RateLimiter rateLimiter = new RateLimiter(redisTemplate, properties, meterRegistry);
+
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(rateLimiter.tryAcquire(route, "ip:1.2.3.4").allowed()).isTrue();
+        }
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(route, "ip:1.2.3.4");
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMs()).isPositive();
+        assertThat(redisTemplate.hasKey("rate:guest-start:ip:1.2.3.4")).isFalse();
+    }
+}
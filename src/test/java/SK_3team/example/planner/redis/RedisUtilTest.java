@@ -0,0 +1,130 @@
+package SK_3team.example.planner.redis;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 세션 Lua 스크립트(로그인/검증/로그아웃), v1 키 이관, 전체 세션 강제 종료를 jedis-mock(인프로세스 Redis)으로 확인
+class RedisUtilTest {
+
+    private static final long TTL_MS = 60_000L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private RedisUtil redisUtil;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(redisServer.getHost(), redisServer.getBindPort());
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        redisUtil = new RedisUtil(redisTemplate);
+        ReflectionTestUtils.setField(redisUtil, "legacyKeyFallback", true);
+    }
+
+    @Test
+    void createdSessionIsValidOnlyForItsOwner() {
+        redisUtil.createSession("token-a", "alice", TTL_MS);
+
+        assertThat(redisUtil.validateSession("token-a", "alice")).isEqualTo(SessionStatus.VALID);
+        assertThat(redisUtil.validateSession("token-a", "mallory")).isEqualTo(SessionStatus.MISMATCHED);
+        assertThat(redisUtil.validateSession("token-b", "alice")).isEqualTo(SessionStatus.UNKNOWN);
+        assertThat(redisUtil.getSessions("alice"))
+                .extracting("sessionId")
+                .containsExactly(SessionKeys.sessionId("token-a"));
+    }
+
+    @Test
+    void legacySessionIsMigratedToV2OnFirstValidation() {
+        redisUtil.setData(SessionKeys.legacySession("legacy-token"), "alice", TTL_MS);
+
+        assertThat(redisUtil.validateSession("legacy-token", "alice")).isEqualTo(SessionStatus.VALID);
+
+        String sessionId = SessionKeys.sessionId("legacy-token");
+        assertThat(redisUtil.hasKey(SessionKeys.legacySession("legacy-token"))).isFalse();
+        assertThat(redisUtil.getData(SessionKeys.session(sessionId))).isEqualTo("alice");
+        assertThat(redisTemplate.getExpire(SessionKeys.session(sessionId))).isPositive();
+        assertThat(redisUtil.getSessions("alice")).hasSize(1);
+        assertThat(redisUtil.validateSession("legacy-token", "alice")).isEqualTo(SessionStatus.VALID);
+    }
+
+    @Test
+    void legacySessionOfAnotherUserIsNotMigrated() {
+        redisUtil.setData(SessionKeys.legacySession("legacy-token"), "alice", TTL_MS);
+
+        assertThat(redisUtil.validateSession("legacy-token", "mallory")).isEqualTo(SessionStatus.MISMATCHED);
+        assertThat(redisUtil.hasKey(SessionKeys.legacySession("legacy-token"))).isTrue();
+        assertThat(redisUtil.hasKey(SessionKeys.session(SessionKeys.sessionId("legacy-token")))).isFalse();
+    }
+
+    @Test
+    void logoutRemovesSessionAndIndexEntry() {
+        redisUtil.createSession("token-a", "alice", TTL_MS);
+        redisUtil.createSession("token-b", "alice", TTL_MS);
+
+        redisUtil.logout("token-a", "alice");
+
+        assertThat(redisUtil.validateSession("token-a", "alice")).isEqualTo(SessionStatus.UNKNOWN);
+        assertThat(redisUtil.validateSession("token-b", "alice")).isEqualTo(SessionStatus.VALID);
+        assertThat(redisUtil.getSessions("alice"))
+                .extracting("sessionId")
+                .containsExactly(SessionKeys.sessionId("token-b"));
+    }
+
+    @Test
+    void revokeAllDeletesEverySessionAndRecordsEpoch() {
+        redisUtil.createSession("token-a", "alice", TTL_MS);
+        redisUtil.createSession("token-b", "alice", TTL_MS);
+        redisUtil.createSession("token-c", "bob", TTL_MS);
+
+        List<String> revoked = redisUtil.revokeAllSessions("alice", 1_700_000_000_000L, TTL_MS);
+
+        assertThat(revoked).containsExactlyInAnyOrder(SessionKeys.sessionId("token-a"), SessionKeys.sessionId("token-b"));
+        assertThat(redisUtil.validateSession("token-a", "alice")).isEqualTo(SessionStatus.UNKNOWN);
+        assertThat(redisUtil.validateSession("token-b", "alice")).isEqualTo(SessionStatus.UNKNOWN);
+        assertThat(redisUtil.getSessions("alice")).isEmpty();
+        assertThat(redisUtil.getRevokedBefore("alice")).isEqualTo(1_700_000_000_000L);
+        assertThat(redisTemplate.getExpire(SessionKeys.revokedBefore("alice"))).isPositive();
+        // 다른 사용자 세션은 그대로
+        assertThat(redisUtil.validateSession("token-c", "bob")).isEqualTo(SessionStatus.VALID);
+    }
+
+    @Test
+    void revokeAllWithoutSessionsStillRecordsEpoch() {
+        assertThat(redisUtil.revokeAllSessions("alice", 1_700_000_000_000L, TTL_MS)).isEmpty();
+        assertThat(redisUtil.getRevokedBefore("alice")).isEqualTo(1_700_000_000_000L);
+    }
+}
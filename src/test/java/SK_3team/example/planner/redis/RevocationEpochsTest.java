@@ -0,0 +1,91 @@
+package SK_3team.example.planner.redis;
+
+import SK_3team.example.planner.jwt.JWTClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 강제 로그아웃: 기준시각 이전 토큰 거부 + 모든 노드의 세션 캐시에서 같은 초에 발급된 토큰까지 제거되는지 확인
+class RevocationEpochsTest {
+
+    private RedisUtil redisUtil;
+    private RedisTemplate<String, Object> redisTemplate;
+    private SessionCache localCache;
+    private SessionCache remoteCache; // 다른 노드
+    private RevocationEpochs revocationEpochs;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisUtil = mock(RedisUtil.class);
+        redisTemplate = mock(RedisTemplate.class);
+        localCache = new SessionCache(redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        remoteCache = new SessionCache(redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        revocationEpochs = new RevocationEpochs(redisUtil, redisTemplate, localCache, new SimpleMeterRegistry(),
+                100, Duration.ofSeconds(30), Duration.ofHours(10));
+    }
+
+    @Test
+    void revokeAllEvictsCachedSessionsOnEveryNode() {
+        JWTClaims claims = claims(new Date());
+        localCache.put("token-a", claims);
+        localCache.put("token-b", claims);
+        remoteCache.put("token-a", claims);
+        remoteCache.put("token-b", claims);
+        String sidA = SessionKeys.sessionId("token-a");
+        String sidB = SessionKeys.sessionId("token-b");
+        when(redisUtil.revokeAllSessions(eq("alice"), anyLong(), anyLong())).thenReturn(List.of(sidA, sidB));
+
+        long revoked = revocationEpochs.revokeAll("alice");
+
+        assertThat(revoked).isEqualTo(2);
+        assertThat(localCache.get("token-a")).isNull();
+        assertThat(localCache.get("token-b")).isNull();
+        verify(redisTemplate).convertAndSend(RevocationEpochs.REVOCATION_CHANNEL, "alice");
+        verify(redisTemplate).convertAndSend(SessionCache.INVALIDATION_CHANNEL, sidA + "," + sidB);
+
+        // 다른 노드는 pub/sub 메시지로 제거
+        remoteCache.onMessage(new DefaultMessage(SessionCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (sidA + "," + sidB).getBytes(StandardCharsets.UTF_8)), null);
+        assertThat(remoteCache.get("token-a")).isNull();
+        assertThat(remoteCache.get("token-b")).isNull();
+    }
+
+    @Test
+    void tokensIssuedBeforeRevocationAreRejected() {
+        when(redisUtil.revokeAllSessions(eq("alice"), anyLong(), anyLong())).thenReturn(List.of());
+
+        revocationEpochs.revokeAll("alice");
+
+        assertThat(revocationEpochs.isRevoked(claims(new Date(System.currentTimeMillis() - 5_000)))).isTrue();
+        assertThat(revocationEpochs.isRevoked(claims(new Date(System.currentTimeMillis() + 1_000)))).isFalse();
+    }
+
+    @Test
+    void singleSessionInvalidationMessageStillWorks() {
+        remoteCache.put("token-a", claims(new Date()));
+
+        remoteCache.onMessage(new DefaultMessage(SessionCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                SessionKeys.sessionId("token-a").getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(remoteCache.get("token-a")).isNull();
+    }
+
+    private JWTClaims claims(Date issuedAt) {
+        return new JWTClaims("alice", "ROLE_USER", 1L, issuedAt, new Date(System.currentTimeMillis() + 60_000));
+    }
+}
@@ -0,0 +1,99 @@
+package SK_3team.example.planner.redis;
+
+import SK_3team.example.planner.jwt.JWTClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// 세션 캐시: TTL 은 설정값과 토큰 남은 만료시간 중 짧은 쪽, 로그아웃 시 pub/sub 메시지로 다른 노드 엔트리까지 제거되는지 확인
+class SessionCacheTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void entryExpiresAtConfiguredMaxTtl() {
+        SessionCache cache = newCache(Duration.ofMillis(200));
+        JWTClaims claims = claims(Duration.ofHours(1));
+        cache.put("token", claims);
+
+        assertThat(cache.get("token")).isSameAs(claims);
+        await().atMost(Duration.ofSeconds(2)).until(() -> cache.get("token") == null);
+    }
+
+    @Test
+    void ttlIsClampedToRemainingTokenLifetime() {
+        SessionCache cache = newCache(Duration.ofMinutes(1));
+        cache.put("token", claims(Duration.ofMillis(300)));
+
+        // get() 의 만료 확인만으로 null 이 되면 캐시 hit 으로 집계되므로, miss 가 찍혀야 캐시 TTL 자체가 줄어든 것
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            assertThat(cache.get("token")).isNull();
+            assertThat(missCount()).isPositive();
+        });
+    }
+
+    @Test
+    void alreadyExpiredClaimsAreNeverServed() {
+        SessionCache cache = newCache(Duration.ofMinutes(1));
+        cache.put("token", claims(Duration.ofSeconds(-1)));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void invalidateEvictsLocallyAndOnOtherNodes() {
+        SessionCache local = newCache(Duration.ofMinutes(1));
+        SessionCache remote = new SessionCache(redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        JWTClaims claims = claims(Duration.ofHours(1));
+        local.put("token", claims);
+        remote.put("token", claims);
+        remote.put("other-token", claims);
+
+        local.invalidate("token");
+
+        assertThat(local.get("token")).isNull();
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(SessionCache.INVALIDATION_CHANNEL), published.capture());
+        // 메시지에는 토큰 원문 대신 해시 키만 실림
+        assertThat(published.getValue()).isEqualTo(SessionKeys.sessionId("token")).isNotEqualTo("token");
+
+        remote.onMessage(new DefaultMessage(SessionCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                published.getValue().toString().getBytes(StandardCharsets.UTF_8)), null);
+        assertThat(remote.get("token")).isNull();
+        assertThat(remote.get("other-token")).isSameAs(claims);
+    }
+
+    private SessionCache newCache(Duration maxTtl) {
+        return new SessionCache(redisTemplate, meterRegistry, 100, maxTtl);
+    }
+
+    private double missCount() {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.session").tag("result", "miss").functionCounter().count();
+    }
+
+    private JWTClaims claims(Duration remaining) {
+        long now = System.currentTimeMillis();
+        return new JWTClaims("alice", "ROLE_USER", 1L, new Date(now), new Date(now + remaining.toMillis()));
+    }
+}
@@ -0,0 +1,33 @@
+package SK_3team.example.planner.redis;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// v2 세션 키 규칙: 토큰 원문 대신 고정 길이 해시 ID, 사용자별 인덱스/기준시각 키
+class SessionKeysTest {
+
+    @Test
+    void sessionIdIsStableShortAndUrlSafe() {
+        String token = "eyJhbGciOiJIUzI1NiJ9." + "x".repeat(300) + ".signature";
+
+        String sessionId = SessionKeys.sessionId(token);
+
+        assertThat(sessionId).hasSize(22).matches("[A-Za-z0-9_-]+");
+        assertThat(SessionKeys.sessionId(token)).isEqualTo(sessionId);
+        assertThat(SessionKeys.sessionId(token + "x")).isNotEqualTo(sessionId);
+    }
+
+    @Test
+    void keysDoNotContainTheRawToken() {
+        String token = "raw.jwt.token";
+
+        assertThat(SessionKeys.session(SessionKeys.sessionId(token)))
+                .startsWith(SessionKeys.SESSION_PREFIX)
+                .doesNotContain(token);
+        assertThat(SessionKeys.userIndex("alice")).isEqualTo("user-sessions:v2:alice");
+        assertThat(SessionKeys.revokedBefore("alice")).isEqualTo("revoked-before:v2:alice");
+        // v1 키는 토큰 원문 그대로 (이관 전 세션 조회용)
+        assertThat(SessionKeys.legacySession(token)).isEqualTo(token);
+    }
+}
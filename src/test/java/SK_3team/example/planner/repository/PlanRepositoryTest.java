@@ -0,0 +1,136 @@
+package SK_3team.example.planner.repository;
+
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import SK_3team.example.planner.dto.projection.PlanVersion;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanDetail;
+import SK_3team.example.planner.guest.GuestKeys;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록/상세 조회에서 plan_details N+1 select가 발생하지 않는지 SQL 실행 횟수로 확인
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PlanRepositoryTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Plan plan = new Plan();
+            plan.setUserId(USER_ID);
+            plan.setTitle("plan " + i);
+            plan.setStart(LocalDateTime.of(2025, 7, 1 + i, 10, 0));
+            plan.setEnd(LocalDateTime.of(2025, 7, 1 + i, 18, 0));
+            plan.setCreatedAt(LocalDateTime.now());
+
+            PlanDetail planDetail = new PlanDetail();
+            planDetail.setAiChatContent("chat " + i);
+            plan.setPlanDetail(planDetail);
+
+            planRepository.save(plan);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void summaryListRunsSingleQuery() {
+        List<PlanSummary> plans = planRepository.findSummariesByUserId(USER_ID);
+
+        assertThat(plans).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rangeListRunsSingleQuery() {
+        List<PlanSummary> plans = planRepository.findSummariesByUserIdAndStartBetween(
+                USER_ID, LocalDateTime.of(2025, 7, 1, 0, 0), LocalDateTime.of(2025, 7, 31, 23, 59));
+
+        assertThat(plans).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void detailIsFetchedWithPlanInSingleQuery() {
+        Long planId = planRepository.findSummariesByUserId(USER_ID).get(0).id();
+        statistics.clear();
+
+        Plan plan = planRepository.findWithDetailByIdAndUserId(planId, USER_ID).orElseThrow();
+
+        assertThat(plan.getPlanDetail().getAiChatContent()).isEqualTo("chat 0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void guestKeyIsFoundThroughBinaryColumn() {
+        String guestKey = GuestKeys.newKey();
+        Long planId = saveGuestPlan(guestKey);
+        statistics.clear();
+
+        Plan plan = planRepository.findWithDetailByGuestKey(guestKey).orElseThrow();
+
+        assertThat(plan.getId()).isEqualTo(planId);
+        assertThat(plan.getGuestKey()).isEqualTo(guestKey);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(entityManager.createNativeQuery("select guest_key_bin from plans where id = :id")
+                .setParameter("id", planId)
+                .getSingleResult()).isEqualTo(GuestKeys.toBytes(guestKey));
+        assertThat(planRepository.findVersionByGuestKey(guestKey)).map(PlanVersion::id).contains(planId);
+    }
+
+    @Test
+    void guestKeyLookupIgnoresCase() {
+        // 저장은 16바이트 값이라 대문자로 보낸 키도 같은 행
+        String guestKey = GuestKeys.newKey();
+        Long planId = saveGuestPlan(guestKey);
+
+        assertThat(planRepository.findWithDetailByGuestKey(guestKey.toUpperCase())).map(Plan::getId).contains(planId);
+    }
+
+    @Test
+    void malformedGuestKeyIsNotQueried() {
+        statistics.clear();
+
+        assertThat(planRepository.findWithDetailByGuestKey("not-a-uuid")).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private Long saveGuestPlan(String guestKey) {
+        Plan plan = new Plan();
+        plan.setTitle("guest");
+        plan.setStart(LocalDateTime.of(2025, 7, 10, 10, 0));
+        plan.setEnd(LocalDateTime.of(2025, 7, 10, 18, 0));
+        plan.setCreatedAt(LocalDateTime.now());
+        plan.setGuestKey(guestKey);
+        Long planId = planRepository.save(plan).getId();
+        entityManager.flush();
+        entityManager.clear();
+        return planId;
+    }
+}
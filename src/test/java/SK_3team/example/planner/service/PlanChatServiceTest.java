@@ -0,0 +1,216 @@
+package SK_3team.example.planner.service;
+
+import SK_3team.example.planner.dto.PlanChatAppendRequestDto;
+import SK_3team.example.planner.dto.PlanChatMessageDto;
+import SK_3team.example.planner.dto.PlanChatWindowDto;
+import SK_3team.example.planner.dto.PlanRequestDto;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanDetail;
+import SK_3team.example.planner.entity.PlanOutboxEvent;
+import SK_3team.example.planner.exception.PlanConflictException;
+import SK_3team.example.planner.exception.PlanNotFoundException;
+import SK_3team.example.planner.guest.GuestDraftStore;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
+import SK_3team.example.planner.repository.PlanOutboxRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// AI 대화 턴 추가: seq 연속 할당, expectedSeq 불일치 시 409(PlanConflictException) 후 아무것도 쓰지 않는지, 구간/상세 조회 확인
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+class PlanChatServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanChatMessageRepository planChatMessageRepository;
+
+    @Autowired
+    private PlanOutboxRepository planOutboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private PlanChatService planChatService;
+    private PlanService planService;
+    private Long planId;
+
+    @BeforeEach
+    void setUp() {
+        Plan plan = new Plan();
+        plan.setUserId(USER_ID);
+        plan.setTitle("plan");
+        plan.setStart(LocalDateTime.of(2025, 7, 1, 10, 0));
+        plan.setEnd(LocalDateTime.of(2025, 7, 1, 18, 0));
+        plan.setCreatedAt(LocalDateTime.now());
+        PlanDetail planDetail = new PlanDetail();
+        planDetail.setAiChatContent("chat");
+        plan.setPlanDetail(planDetail);
+        plan.setContentVersion(1); // 이미 저장된 일정
+        planId = planRepository.save(plan).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        PlanOutbox planOutbox = new PlanOutbox(planOutboxRepository);
+        GuestDraftStore guestDraftStore = mock(GuestDraftStore.class);
+        planChatService = new PlanChatService(planRepository, planChatMessageRepository, planOutbox, guestDraftStore);
+        planService = new PlanService(planRepository, planChatMessageRepository, planOutbox, guestDraftStore);
+    }
+
+    @Test
+    void appendedTurnsGetConsecutiveSeqs() {
+        planChatService.appendTurns(planId, null, USER_ID, request(0, "user", "ai"));
+        PlanChatWindowDto second = planChatService.appendTurns(planId, null, USER_ID, request(2, "user"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(second.getTurns()).extracting(PlanChatMessageDto::getSeq).containsExactly(3);
+        Plan plan = planRepository.findById(planId).orElseThrow();
+        assertThat(plan.getLastChatSeq()).isEqualTo(3);
+        assertThat(plan.getContentVersion()).isEqualTo(3);
+        assertThat(planOutboxRepository.findAll()).extracting(PlanOutboxEvent::getType)
+                .containsOnly(PlanEventType.CHAT_APPENDED);
+    }
+
+    @Test
+    void staleExpectedSeqIsRejectedWithoutWriting() {
+        planChatService.appendTurns(planId, null, USER_ID, request(0, "user", "ai"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // 재전송: 이미 반영된 요청을 같은 expectedSeq 로 다시 보냄
+        assertThatThrownBy(() -> planChatService.appendTurns(planId, null, USER_ID, request(0, "user", "ai")))
+                .isInstanceOf(PlanConflictException.class);
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(planChatMessageRepository.findAllByPlanId(planId)).hasSize(2);
+        assertThat(planRepository.findById(planId).orElseThrow().getLastChatSeq()).isEqualTo(2);
+    }
+
+    @Test
+    void appendWithoutExpectedSeqAlwaysAppends() {
+        planChatService.appendTurns(planId, null, USER_ID, request(null, "user"));
+        planChatService.appendTurns(planId, null, USER_ID, request(null, "ai"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(planChatMessageRepository.findAllByPlanId(planId)).extracting("seq").containsExactly(1, 2);
+    }
+
+    @Test
+    void otherUsersPlanIsNotFound() {
+        assertThatThrownBy(() -> planChatService.appendTurns(planId, null, 2L, request(0, "user")))
+                .isInstanceOf(PlanNotFoundException.class);
+    }
+
+    @Test
+    void invalidTurnsAreRejected() {
+        assertThatThrownBy(() -> planChatService.appendTurns(planId, null, USER_ID, request(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> planChatService.appendTurns(planId, null, USER_ID, request(0, "system")))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 공백만 있는 턴은 저장하지 않음
+        PlanChatAppendRequestDto blank = new PlanChatAppendRequestDto(0, List.of(new PlanChatMessageDto(null, "user", "  \n ", null)));
+        assertThatThrownBy(() -> planChatService.appendTurns(planId, null, USER_ID, blank))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(planChatMessageRepository.findAllByPlanId(planId)).isEmpty();
+    }
+
+    @Test
+    void windowsAreReturnedInSeqOrder() {
+        planChatService.appendTurns(planId, null, USER_ID, request(0, "user", "ai", "user", "ai", "user"));
+        entityManager.flush();
+        entityManager.clear();
+
+        PlanChatWindowDto latest = planChatService.getTurns(planId, null, USER_ID, null, null, 2);
+        assertThat(latest.getTurns()).extracting(PlanChatMessageDto::getSeq).containsExactly(4, 5);
+        assertThat(latest.isHasMore()).isTrue();
+
+        PlanChatWindowDto older = planChatService.getTurns(planId, null, USER_ID, null, 4, 10);
+        assertThat(older.getTurns()).extracting(PlanChatMessageDto::getSeq).containsExactly(1, 2, 3);
+        assertThat(older.isHasMore()).isFalse();
+
+        PlanChatWindowDto after = planChatService.getTurns(planId, null, USER_ID, 3, null, 10);
+        assertThat(after.getTurns()).extracting(PlanChatMessageDto::getSeq).containsExactly(4, 5);
+    }
+
+    @Test
+    void detailIncludesAppendedTurnsLikeExport() {
+        planChatService.appendTurns(planId, null, USER_ID, request(0, "user", "ai"));
+        entityManager.flush();
+        entityManager.clear();
+
+        String detail = planService.getPlanDetailByIdForUser(planId, USER_ID).getAiChatContent();
+
+        assertThat(detail).isEqualTo("chat\nuser: user says hi\nai: ai says hi");
+        assertThat(detail).isEqualTo(planService.getPlanForExport(planId, null, USER_ID).getAiChatContent());
+    }
+
+    @Test
+    void fullChatOverwriteReplacesAppendedTurns() {
+        planChatService.appendTurns(planId, null, USER_ID, request(0, "user", "ai"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // 상세 조회 결과를 그대로 다시 저장: 턴이 본문에 이미 들어 있으므로 두 번 나오면 안 됨
+        String transcript = planService.getPlanDetailByIdForUser(planId, USER_ID).getAiChatContent();
+        planService.updatePlan(planId, new PlanRequestDto("plan", LocalDateTime.of(2025, 7, 1, 10, 0),
+                LocalDateTime.of(2025, 7, 1, 18, 0), transcript, null, null), USER_ID);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(planChatMessageRepository.findAllByPlanId(planId)).isEmpty();
+        assertThat(planRepository.findById(planId).orElseThrow().getLastChatSeq()).isZero();
+        assertThat(planService.getPlanForExport(planId, null, USER_ID).getAiChatContent()).isEqualTo(transcript);
+
+        // 이전 expectedSeq 로 이어 붙이려던 클라이언트는 409 를 받음
+        assertThatThrownBy(() -> planChatService.appendTurns(planId, null, USER_ID, request(2, "user")))
+                .isInstanceOf(PlanConflictException.class);
+    }
+
+    @Test
+    void startedGuestPlanIsRecordedAsCreatedOnlyAtFirstContent() {
+        // /plans/start 는 빈 행만 만들고 이벤트를 남기지 않음
+        String savedKey = planService.startGuestPlan().getGuestKey();
+        String chattedKey = planService.startGuestPlan().getGuestKey();
+        entityManager.flush();
+        assertThat(planOutboxRepository.findAll()).isEmpty();
+
+        PlanRequestDto save = new PlanRequestDto("guest", LocalDateTime.of(2025, 7, 1, 10, 0),
+                LocalDateTime.of(2025, 7, 1, 18, 0), "chat", null, null);
+        planService.createOrUpdatePlan(save, null, savedKey);
+        planService.createOrUpdatePlan(save, null, savedKey);
+        planChatService.appendTurns(null, chattedKey, null, request(0, "user"));
+        entityManager.flush();
+
+        assertThat(planOutboxRepository.findAll()).extracting(PlanOutboxEvent::getType).containsExactly(
+                PlanEventType.CREATED, PlanEventType.UPDATED, PlanEventType.CREATED, PlanEventType.CHAT_APPENDED);
+    }
+
+    private PlanChatAppendRequestDto request(Integer expectedSeq, String... roles) {
+        List<PlanChatMessageDto> turns = Arrays.stream(roles)
+                .map(role -> new PlanChatMessageDto(null, role, role + " says hi", null))
+                .toList();
+        return new PlanChatAppendRequestDto(expectedSeq, turns);
+    }
+}
@@ -0,0 +1,122 @@
+package SK_3team.example.planner.service;
+
+import SK_3team.example.planner.dto.PlanExportDto;
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.entity.PlanChatMessage;
+import SK_3team.example.planner.entity.PlanDetail;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 일괄 내보내기: 대화 턴을 일정마다 따로 읽지 않는지 SQL 실행 횟수로 확인, 윈도우 순서/소유자 확인
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PlanExportStreamTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int PLAN_COUNT = 5;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanChatMessageRepository planChatMessageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private PlanService planService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PLAN_COUNT; i++) {
+            Plan plan = new Plan();
+            plan.setUserId(USER_ID);
+            plan.setTitle("plan " + i);
+            plan.setStart(LocalDateTime.of(2025, 7, 1 + i, 10, 0));
+            plan.setEnd(LocalDateTime.of(2025, 7, 1 + i, 18, 0));
+            plan.setCreatedAt(LocalDateTime.now());
+
+            PlanDetail planDetail = new PlanDetail();
+            planDetail.setAiChatContent("chat " + i);
+            plan.setPlanDetail(planDetail);
+
+            // 마지막 일정은 턴이 없음
+            int turns = (i == PLAN_COUNT - 1) ? 0 : 2;
+            plan.setLastChatSeq(turns);
+            planRepository.save(plan);
+
+            for (int seq = 1; seq <= turns; seq++) {
+                planChatMessageRepository.save(new PlanChatMessage(null, plan.getId(), seq,
+                        seq % 2 == 1 ? "user" : "ai", "turn " + i + "-" + seq, LocalDateTime.now()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        planService = new PlanService(planRepository, planChatMessageRepository, null, null);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void chatTurnsAreLoadedOncePerWindow() {
+        List<PlanExportDto> exported = export(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31), null);
+
+        assertThat(exported).hasSize(PLAN_COUNT);
+        // 대상 id 1번 + 윈도우 스냅샷 1번 + 턴 IN 조회 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(exported.get(0).getAiChatContent()).isEqualTo("chat 0\nuser: turn 0-1\nai: turn 0-2");
+        assertThat(exported.get(1).getAiChatContent()).isEqualTo("chat 1\nuser: turn 1-1\nai: turn 1-2");
+        assertThat(exported.get(PLAN_COUNT - 1).getAiChatContent()).isEqualTo("chat " + (PLAN_COUNT - 1));
+    }
+
+    @Test
+    void plansWithoutTurnsNeedNoExtraQuery() {
+        Long planId = planRepository.findSummariesByUserId(USER_ID).get(PLAN_COUNT - 1).id();
+        statistics.clear();
+
+        List<PlanExportDto> exported = export(null, null, List.of(planId));
+
+        assertThat(exported).extracting(PlanExportDto::getPlanId).containsExactly(planId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void requestedIdsAreExportedInStartOrderAndOnlyForOwner() {
+        List<Long> ids = planRepository.findSummariesByUserId(USER_ID).stream().map(PlanSummary::id).toList();
+
+        List<PlanExportDto> exported = export(null, null, List.of(ids.get(3), ids.get(0), ids.get(2)));
+        List<List<Long>> otherUsersWindows = planService.getExportWindows(2L, null, null, ids);
+
+        assertThat(exported).extracting(PlanExportDto::getPlanId).containsExactly(ids.get(0), ids.get(2), ids.get(3));
+        assertThat(otherUsersWindows).isEmpty();
+    }
+
+    // 컨트롤러와 같은 순서: 대상 id 윈도우를 먼저 읽고 윈도우마다 스냅샷 조회
+    private List<PlanExportDto> export(LocalDate from, LocalDate to, List<Long> planIds) {
+        List<PlanExportDto> exported = new ArrayList<>();
+        for (List<Long> window : planService.getExportWindows(USER_ID, from, to, planIds)) {
+            exported.addAll(planService.getPlansForExport(USER_ID, window));
+        }
+        return exported;
+    }
+}
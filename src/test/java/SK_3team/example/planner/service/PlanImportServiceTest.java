@@ -0,0 +1,130 @@
+package SK_3team.example.planner.service;
+
+import SK_3team.example.planner.dto.PlanImportResponseDto;
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import SK_3team.example.planner.entity.Plan;
+import SK_3team.example.planner.outbox.PlanEventType;
+import SK_3team.example.planner.outbox.PlanOutbox;
+import SK_3team.example.planner.repository.PlanOutboxRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 일괄 가져오기: 청크 저장이 실패하면 그 청크만 행 단위로 다시 저장하고 실패한 행 번호를 돌려주는지 확인
+// 청크마다 별도 트랜잭션이 실제로 커밋/롤백되어야 하므로 테스트 트랜잭션은 쓰지 않음
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlanImportServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanOutboxRepository planOutboxRepository;
+
+    private PlanImportService planImportService;
+
+    @BeforeEach
+    void setUp() {
+        // 제목이 "boom" 인 행은 저장 중에 실패 (DB 제약 위반 대신)
+        PlanOutbox planOutbox = new PlanOutbox(planOutboxRepository) {
+            @Override
+            public void record(PlanEventType type, Plan plan) {
+                if ("boom".equals(plan.getTitle())) {
+                    throw new IllegalStateException("boom");
+                }
+                super.record(type, plan);
+            }
+        };
+        planImportService = new PlanImportService(entityManager, transactionManager,
+                JsonMapper.builder().findAndAddModules().build(), planOutbox, CHUNK_SIZE, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        planOutboxRepository.deleteAllInBatch();
+        entityManager.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("delete from PlanDetail").executeUpdate();
+            entityManager.createQuery("delete from Plan").executeUpdate();
+        });
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRow() throws IOException {
+        // 행 1-3: 첫 청크 (정상), 행 4-6: 두 번째 청크 (5행 실패), 행 7: 마지막 청크
+        PlanImportResponseDto response = importRows("a", "b", "c", "d", "boom", "f", "g");
+
+        assertThat(response.getStatus()).isEqualTo("partial");
+        assertThat(response.getTotal()).isEqualTo(7);
+        assertThat(response.getImported()).isEqualTo(6);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(PlanImportResponseDto.RowError::getRow).containsExactly(5);
+        assertThat(planRepository.findSummariesByUserId(USER_ID))
+                .extracting(PlanSummary::title)
+                .containsExactlyInAnyOrder("a", "b", "c", "d", "f", "g");
+        assertThat(planOutboxRepository.count()).isEqualTo(6);
+    }
+
+    @Test
+    void invalidRowsAreReportedWithoutStoppingTheImport() throws IOException {
+        String body = """
+                {"title":"ok","start":"2025-07-01T10:00:00","end":"2025-07-01T12:00:00"}
+                {"title":"reversed","start":"2025-07-01T12:00:00","end":"2025-07-01T10:00:00"}
+                {"title":"bad","start":"not-a-date","end":"2025-07-01T10:00:00"}
+                {"title":"ok2","start":"2025-07-02T10:00:00","end":"2025-07-02T12:00:00"}
+                """;
+
+        PlanImportResponseDto response = planImportService.importPlans(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), USER_ID);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(PlanImportResponseDto.RowError::getRow).containsExactly(2, 3);
+    }
+
+    @Test
+    void allRowsFailingIsReportedAsError() throws IOException {
+        PlanImportResponseDto response = importRows("boom");
+
+        assertThat(response.getStatus()).isEqualTo("error");
+        assertThat(response.getCode()).isEqualTo(400);
+        assertThat(planRepository.count()).isZero();
+    }
+
+    private PlanImportResponseDto importRows(String... titles) throws IOException {
+        String body = IntStream.range(0, titles.length)
+                .mapToObj(i -> "{\"title\":\"" + titles[i] + "\",\"start\":\"2025-07-0" + (i % 9 + 1) + "T10:00:00\","
+                        + "\"end\":\"2025-07-0" + (i % 9 + 1) + "T12:00:00\"}")
+                .collect(Collectors.joining("\n"));
+        return planImportService.importPlans(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), USER_ID);
+    }
+}
@@ -0,0 +1,111 @@
+package SK_3team.example.planner.service;
+
+import SK_3team.example.planner.dto.PlanPageResponseDto;
+import SK_3team.example.planner.dto.projection.PlanSummary;
+import SK_3team.example.planner.repository.PlanChatMessageRepository;
+import SK_3team.example.planner.repository.PlanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 요청 값 검증(커서/기간)과 커서 왕복: 저장소는 mock, 잘못된 값은 IllegalArgumentException (-> 400)
+class PlanServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private PlanRepository planRepository;
+    private PlanService planService;
+
+    @BeforeEach
+    void setUp() {
+        planRepository = mock(PlanRepository.class);
+        planService = new PlanService(planRepository, mock(PlanChatMessageRepository.class), null, null);
+    }
+
+    @Test
+    void nextCursorResumesAfterLastRow() {
+        LocalDateTime start = LocalDateTime.of(2025, 7, 2, 10, 0);
+        when(planRepository.findSummaryPage(eq(USER_ID), any(Pageable.class))).thenReturn(List.of(
+                summary(1L, start.minusDays(1)), summary(2L, start), summary(3L, start.plusDays(1))));
+
+        PlanPageResponseDto first = planService.getPlansPageForUser(USER_ID, null, 2);
+        assertThat(first.getPlans()).hasSize(2);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        planService.getPlansPageForUser(USER_ID, first.getNextCursor(), 2);
+        verify(planRepository).findSummaryPageAfter(eq(USER_ID), eq(start), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void cursorWithNullStartUsesNullStartQuery() {
+        planService.getPlansPageForUser(USER_ID, encode("|7"), 10);
+
+        verify(planRepository).findSummaryPageAfterNullStart(eq(USER_ID), eq(7L), any(Pageable.class));
+    }
+
+    @Test
+    void malformedCursorsAreRejectedAsInvalid() {
+        for (String cursor : List.of("not base64!", encode("no-separator"), encode("abc|x"),
+                encode("2025-13-40T00:00|1"), encode("a|b|c"))) {
+            assertThatThrownBy(() -> planService.getPlansPageForUser(USER_ID, cursor, 10))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 커서입니다.");
+        }
+    }
+
+    @Test
+    void reversedRangeIsRejected() {
+        assertThatThrownBy(() -> planService.getPlansByRangeForUser(USER_ID, LocalDate.of(2025, 7, 31), LocalDate.of(2025, 7, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시작일이 종료일보다 늦을 수 없습니다.");
+    }
+
+    @Test
+    void rangeLongerThanLimitIsRejected() {
+        LocalDate from = LocalDate.of(2025, 7, 1);
+
+        assertThatThrownBy(() -> planService.getPlansByRangeForUser(USER_ID, from, from.plusDays(62)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(planService.getPlansByRangeForUser(USER_ID, from, from.plusDays(61))).isEmpty();
+    }
+
+    @Test
+    void batchExportNeedsExactlyOneCriterion() {
+        LocalDate from = LocalDate.of(2025, 7, 1);
+
+        assertThatThrownBy(() -> planService.validateBatchExport(null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> planService.validateBatchExport(from, from.plusDays(1), List.of(1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> planService.validateBatchExport(null, null,
+                LongStream.rangeClosed(1, 101).boxed().toList()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        planService.validateBatchExport(from, from.plusDays(30), null);
+        planService.validateBatchExport(null, null, List.of(1L, 2L));
+    }
+
+    private static PlanSummary summary(Long id, LocalDateTime start) {
+        return new PlanSummary(id, "plan " + id, start, start.plusHours(8), start, null);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}